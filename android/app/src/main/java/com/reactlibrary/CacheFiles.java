@@ -0,0 +1,44 @@
+package com.reactlibrary;
+
+import android.content.Context;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 결과 이미지 파일을 저장하는 캐시 디렉터리(cacheDir/rn-opencv). 반환한 파일은 호출한 쪽(JS)이 소유하며
+ * 모듈이 알아서 지우지 않으므로, 다 쓴 파일은 옮기거나 clearCache로 지워야 디렉터리가 계속 커지지 않는다.
+ */
+class CacheFiles {
+
+  private static final String DIRECTORY = "rn-opencv";
+
+  private CacheFiles() {
+  }
+
+  static File create(Context context, String prefix, String suffix) throws IOException {
+    File directory = new File(context.getCacheDir(), DIRECTORY);
+    // 여러 워커가 동시에 만들 수 있으므로 mkdirs 실패 후 디렉터리 존재 여부를 다시 확인
+    if (!directory.mkdirs() && !directory.isDirectory()) {
+      throw new IOException("Unable to create " + directory);
+    }
+    return File.createTempFile(prefix, suffix, directory);
+  }
+
+  /**
+   * 디렉터리의 파일을 모두 지우고 지운 개수를 반환한다. 진행 중인 검출이 만든 파일도 지워지므로
+   * 검출/자동 촬영이 끝난 뒤에 호출한다.
+   */
+  static int clear(Context context) {
+    File[] files = new File(context.getCacheDir(), DIRECTORY).listFiles();
+    int deleted = 0;
+    if (files != null) {
+      for (File file : files) {
+        if (file.isFile() && file.delete()) {
+          deleted++;
+        }
+      }
+    }
+    return deleted;
+  }
+}
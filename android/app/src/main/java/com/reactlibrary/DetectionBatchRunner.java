@@ -0,0 +1,209 @@
+package com.reactlibrary;
+
+import org.opencv.core.Core;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 장의 이미지를 ForkJoinPool에서 병렬로 검출한다. 이미지 하나가 끝날 때마다 Listener로 알리고,
+ * 배치가 도는 동안에는 OpenCV 내부 스레드 수를 줄여 코어를 이중으로 점유하지 않게 한다.
+ */
+class DetectionBatchRunner {
+
+  interface ImageTask {
+    Object run(int index, RectangleDetector detector, DetectionJobQueue.Cancellation cancellation) throws Exception;
+  }
+
+  interface Listener {
+    /**
+     * 워커 스레드에서 호출된다. 성공하면 error가 null, 실패하면 result가 null이다.
+     */
+    void onImageDone(int index, Object result, String errorCode, String errorMessage, int completed);
+
+    void onBatchDone(int succeeded, int failed, boolean cancelled);
+  }
+
+  private static class Batch implements DetectionJobQueue.Cancellation {
+    final String id;
+    final int total;
+    final ImageTask task;
+    final Listener listener;
+    // completed: 진행률 보고용, settled: onImageDone까지 끝난 이미지 수 (마지막 이벤트 뒤에 onBatchDone이 오도록)
+    final AtomicInteger completed = new AtomicInteger();
+    final AtomicInteger settled = new AtomicInteger();
+    final AtomicInteger succeeded = new AtomicInteger();
+    final AtomicInteger failed = new AtomicInteger();
+    volatile boolean cancelled;
+
+    Batch(String id, int total, ImageTask task, Listener listener) {
+      this.id = id;
+      this.total = total;
+      this.task = task;
+      this.listener = listener;
+    }
+
+    @Override
+    public void throwIfCancelled() {
+      if (cancelled) {
+        throw new CancellationException("Batch " + id + " was cancelled");
+      }
+    }
+  }
+
+  /**
+   * 인덱스 범위를 반으로 나눠 fork하고, 이미지 하나 단위가 되면 그 워커의 검출기로 처리한다.
+   */
+  private class BatchAction extends RecursiveAction {
+    private final Batch batch;
+    private final int from;
+    private final int to;
+
+    BatchAction(Batch batch, int from, int to) {
+      this.batch = batch;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new BatchAction(batch, from, middle), new BatchAction(batch, middle, to));
+        return;
+      }
+      if (batch.cancelled) {
+        // 취소된 배치의 남은 이미지는 건너뛰고 완료 수만 맞춤
+        settle(batch);
+        return;
+      }
+      Object result = null;
+      String errorCode = null;
+      String errorMessage = null;
+      try {
+        result = batch.task.run(from, ((WorkerThread) Thread.currentThread()).detector, batch);
+        batch.succeeded.incrementAndGet();
+      } catch (CancellationException e) {
+        errorCode = DetectionJobQueue.E_CANCELLED;
+        errorMessage = e.getMessage();
+        batch.failed.incrementAndGet();
+      } catch (Throwable e) {
+        errorCode = DetectionJobQueue.E_DETECTION;
+        errorMessage = e.getMessage() == null ? e.toString() : e.getMessage();
+        batch.failed.incrementAndGet();
+      }
+      batch.listener.onImageDone(from, result, errorCode, errorMessage, batch.completed.incrementAndGet());
+      settle(batch);
+    }
+  }
+
+  private static class WorkerThread extends ForkJoinWorkerThread {
+    RectangleDetector detector;
+
+    WorkerThread(ForkJoinPool pool) {
+      super(pool);
+      setName("RNOpenCv-batch-" + getPoolIndex());
+      setPriority(Thread.NORM_PRIORITY - 1);
+    }
+
+    @Override
+    protected void onStart() {
+      super.onStart();
+      // 워커 스레드마다 검출기(와 그 workspace)를 하나씩 두고, 스레드가 끝날 때 네이티브 버퍼를 해제
+      detector = new RectangleDetector();
+    }
+
+    @Override
+    protected void onTermination(Throwable exception) {
+      if (detector != null) {
+        detector.release();
+        detector = null;
+      }
+      super.onTermination(exception);
+    }
+  }
+
+  private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+  private final int parallelism;
+  private final ForkJoinPool pool;
+  private int activeBatches;
+  private int savedNumThreads;
+
+  DetectionBatchRunner(int parallelism) {
+    this.parallelism = parallelism;
+    pool = new ForkJoinPool(parallelism, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+      @Override
+      public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        return new WorkerThread(pool);
+      }
+    }, null, false);
+  }
+
+  static DetectionBatchRunner create() {
+    // 코어 수만큼 병렬로 돌리되, 12MP 이미지 하나가 수십 MB를 쓰므로 동시에 4장을 넘지 않게 제한
+    return new DetectionBatchRunner(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+  }
+
+  /**
+   * count개의 이미지를 처리하는 배치를 시작한다. 같은 ID의 배치가 이미 진행 중이면 false.
+   */
+  boolean submit(String batchId, int count, ImageTask task, Listener listener) {
+    Batch batch = new Batch(batchId, count, task, listener);
+    if (batches.putIfAbsent(batchId, batch) != null) {
+      return false;
+    }
+    if (count == 0) {
+      batches.remove(batchId, batch);
+      listener.onBatchDone(0, 0, false);
+      return true;
+    }
+    enterBatch();
+    pool.execute(new BatchAction(batch, 0, count));
+    return true;
+  }
+
+  boolean cancel(String batchId) {
+    Batch batch = batches.get(batchId);
+    if (batch == null) {
+      return false;
+    }
+    // 실행 중인 이미지는 다음 단계 경계에서, 남은 이미지는 시작 전에 중단됨
+    batch.cancelled = true;
+    return true;
+  }
+
+  void shutdown() {
+    for (Batch batch : batches.values()) {
+      batch.cancelled = true;
+    }
+    pool.shutdown();
+  }
+
+  private void settle(Batch batch) {
+    if (batch.settled.incrementAndGet() < batch.total) {
+      return;
+    }
+    batches.remove(batch.id, batch);
+    exitBatch();
+    batch.listener.onBatchDone(batch.succeeded.get(), batch.failed.get(), batch.cancelled);
+  }
+
+  private synchronized void enterBatch() {
+    if (activeBatches++ == 0) {
+      // 이미지 단위로 이미 코어를 나눠 쓰므로 OpenCV의 parallel_for_는 남는 코어만 사용
+      savedNumThreads = Core.getNumThreads();
+      Core.setNumThreads(Math.max(1, Runtime.getRuntime().availableProcessors() / parallelism));
+    }
+  }
+
+  private synchronized void exitBatch() {
+    if (--activeBatches == 0) {
+      Core.setNumThreads(savedNumThreads);
+    }
+  }
+}
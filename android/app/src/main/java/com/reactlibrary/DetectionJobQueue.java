@@ -0,0 +1,193 @@
+package com.reactlibrary;
+
+import com.facebook.react.bridge.Promise;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문서 검출 작업을 브리지 스레드 밖의 제한된 워커 풀에서 실행한다.
+ * 대기열이 가득 차면 가장 오래된 대기 작업을 버리고(drop-oldest) 새 작업을 받는다.
+ */
+class DetectionJobQueue {
+
+  static final String E_CANCELLED = "E_CANCELLED";
+  static final String E_DROPPED = "E_DROPPED";
+  static final String E_DUPLICATE_JOB = "E_DUPLICATE_JOB";
+  static final String E_SHUTDOWN = "E_SHUTDOWN";
+  static final String E_DETECTION = "E_DETECTION";
+
+  interface Task {
+    Object run(Job job, RectangleDetector detector) throws Exception;
+  }
+
+  /**
+   * 파이프라인 단계 사이에서 취소 여부를 확인하는 쪽. 단일 작업과 배치가 함께 사용한다.
+   */
+  interface Cancellation {
+    void throwIfCancelled();
+  }
+
+  static class Job implements Runnable, Cancellation {
+    final String id;
+    private final Task task;
+    private final Promise promise;
+    private final DetectionJobQueue queue;
+    private final AtomicBoolean settled = new AtomicBoolean();
+    private volatile boolean cancelled;
+
+    private Job(String id, Task task, Promise promise, DetectionJobQueue queue) {
+      this.id = id;
+      this.task = task;
+      this.promise = promise;
+      this.queue = queue;
+    }
+
+    /**
+     * 파이프라인 단계 사이에서 호출해 취소된 작업을 빨리 끝낸다.
+     */
+    @Override
+    public void throwIfCancelled() {
+      if (cancelled) {
+        throw new CancellationException("Job " + id + " was cancelled");
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        throwIfCancelled();
+        Object result = task.run(this, workerDetector());
+        throwIfCancelled();
+        resolve(result);
+      } catch (CancellationException e) {
+        reject(E_CANCELLED, e.getMessage());
+      } catch (Throwable e) {
+        reject(E_DETECTION, e.getMessage() == null ? e.toString() : e.getMessage());
+      }
+    }
+
+    private void resolve(Object result) {
+      if (settled.compareAndSet(false, true)) {
+        queue.jobs.remove(id, this);
+        promise.resolve(result);
+      }
+    }
+
+    private void reject(String code, String message) {
+      if (settled.compareAndSet(false, true)) {
+        queue.jobs.remove(id, this);
+        promise.reject(code, message);
+      }
+    }
+  }
+
+  // 워커 스레드마다 검출기(와 그 workspace)를 하나씩 두고, 스레드가 끝날 때 네이티브 버퍼를 해제
+  private static final ThreadLocal<RectangleDetector> WORKER_DETECTOR = new ThreadLocal<>();
+
+  /**
+   * WorkerFactory로 만든 스레드에서 그 스레드 전용 검출기를 돌려준다.
+   */
+  static RectangleDetector workerDetector() {
+    return WORKER_DETECTOR.get();
+  }
+
+  private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor executor;
+
+  DetectionJobQueue(int workers, int capacity) {
+    executor = new ThreadPoolExecutor(workers, workers, 30, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(capacity), new WorkerFactory("RNOpenCv-detect-"), new DropOldestPolicy());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  static DetectionJobQueue create() {
+    // 12MP 프레임 하나가 수십 MB의 네이티브 메모리를 쓰므로 워커 수와 대기열을 작게 유지
+    int workers = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+    return new DetectionJobQueue(workers, 2);
+  }
+
+  void submit(String jobId, Task task, Promise promise) {
+    Job job = new Job(jobId, task, promise, this);
+    if (jobs.putIfAbsent(jobId, job) != null) {
+      promise.reject(E_DUPLICATE_JOB, "Job " + jobId + " is already queued");
+      return;
+    }
+    executor.execute(job);
+  }
+
+  boolean cancel(String jobId) {
+    Job job = jobs.get(jobId);
+    if (job == null) {
+      return false;
+    }
+    job.cancelled = true;
+    // 아직 대기 중이면 바로 제거하고, 실행 중이면 다음 단계 경계에서 중단됨
+    if (executor.remove(job)) {
+      job.reject(E_CANCELLED, "Job " + jobId + " was cancelled");
+    }
+    return true;
+  }
+
+  void shutdown() {
+    for (Runnable pending : executor.shutdownNow()) {
+      ((Job) pending).reject(E_SHUTDOWN, "Detection queue was shut down");
+    }
+    for (Job job : jobs.values()) {
+      job.cancelled = true;
+    }
+  }
+
+  private static class DropOldestPolicy implements RejectedExecutionHandler {
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+      Job job = (Job) runnable;
+      if (executor.isShutdown()) {
+        job.reject(E_SHUTDOWN, "Detection queue was shut down");
+        return;
+      }
+      Runnable oldest = executor.getQueue().poll();
+      if (oldest != null) {
+        ((Job) oldest).reject(E_DROPPED, "Job " + ((Job) oldest).id + " was dropped for a newer job");
+      }
+      executor.execute(job);
+    }
+  }
+
+  static class WorkerFactory implements ThreadFactory {
+    private final String namePrefix;
+    private final AtomicInteger count = new AtomicInteger();
+
+    WorkerFactory(String namePrefix) {
+      this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      Runnable worker = new Runnable() {
+        @Override
+        public void run() {
+          RectangleDetector detector = new RectangleDetector();
+          WORKER_DETECTOR.set(detector);
+          try {
+            runnable.run();
+          } finally {
+            WORKER_DETECTOR.remove();
+            detector.release();
+          }
+        }
+      };
+      Thread thread = new Thread(worker, namePrefix + count.incrementAndGet());
+      thread.setPriority(Thread.NORM_PRIORITY - 1);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.reactlibrary;
+
+import com.facebook.react.bridge.ReadableMap;
+
+/**
+ * JS에서 전달한 검출 옵션. 지정하지 않은 값은 기존 동작과 같은 기본값을 사용한다.
+ */
+class DetectionOptions {
+
+  static final DetectionOptions DEFAULT = new DetectionOptions();
+
+  static final String CROP_BOUNDING_BOX = "boundingBox";
+  static final String CROP_PERSPECTIVE = "perspective";
+
+  static final String FORMAT_PNG = "png";
+  static final String FORMAT_JPEG = "jpeg";
+  static final String FORMAT_WEBP = "webp";
+
+  static final String CANNY_FIXED = "fixed";
+  static final String CANNY_MEDIAN = "median";
+  static final String CANNY_OTSU = "otsu";
+
+  static final String OUTPUT_IMAGES = "images";
+  static final String OUTPUT_GEOMETRY = "geometry";
+
+  // 0보다 크면 긴 변이 이 값 이하가 될 때까지 피라미드로 축소한 이미지에서 윤곽선을 찾음
+  int detectionMaxEdge = 0;
+  // boundingBox: 축 정렬 사각형으로 자름, perspective: 네 꼭짓점으로 원근 보정
+  String cropMode = CROP_BOUNDING_BOX;
+  // perspective 모드에서 0보다 크면 용지 크기(mm)와 DPI로 출력 크기를 정하고, 아니면 검출된 변 길이를 사용
+  double targetDpi = 0;
+  double pageWidthMm = 210;
+  double pageHeightMm = 297;
+  // images: 윤곽선을 그린 원본과 잘라낸 이미지 파일, geometry: 꼭짓점/신뢰도와 잘라낸 이미지 파일만 (원본 인코딩 생략)
+  String output = OUTPUT_IMAGES;
+  // 결과 이미지 인코딩: 포맷(png/jpeg/webp), 품질(0~100, png는 무시), 긴 변 최대 길이(0이면 원본 크기)
+  String format = FORMAT_PNG;
+  int quality = 95;
+  int maxDimension = 0;
+  // 캐니 임계값: fixed(30/90), median(중앙값 ± sigma), otsu(오츠 임계값과 그 절반)
+  String cannyMode = CANNY_FIXED;
+  double cannySigma = 0.33;
+  // 0보다 크면 자동 임계값을 이 프레임 수만큼 재사용 (같은 검출기로 연속 프레임을 처리하는 미리보기용)
+  int cannyCacheFrames = 0;
+  // detectDocuments: 반환할 최대 문서 수와, 이미지 면적 대비 최소 문서 면적
+  int maxDocuments = 10;
+  double minAreaRatio = 0.01;
+  // true면 무거운 처리 전에 축소한 회색조 이미지로 노출/반사광/선명도를 확인해 나쁜 이미지를 바로 거절
+  boolean qualityGate = false;
+  // 검게(또는 하얗게) 날아간 픽셀 비율, 가장 큰 반사광 면적 비율의 상한과 라플라시안 분산의 하한
+  double maxClippedRatio = 0.3;
+  double maxGlareRatio = 0.05;
+  double minSharpness = 100;
+
+  /**
+   * 모든 값을 복사한 새 옵션. 다른 스레드에 넘긴 옵션은 고치지 말고 복사본을 고쳐 새로 넘긴다.
+   */
+  DetectionOptions copy() {
+    DetectionOptions options = new DetectionOptions();
+    options.detectionMaxEdge = detectionMaxEdge;
+    options.cropMode = cropMode;
+    options.targetDpi = targetDpi;
+    options.pageWidthMm = pageWidthMm;
+    options.pageHeightMm = pageHeightMm;
+    options.output = output;
+    options.format = format;
+    options.quality = quality;
+    options.maxDimension = maxDimension;
+    options.cannyMode = cannyMode;
+    options.cannySigma = cannySigma;
+    options.cannyCacheFrames = cannyCacheFrames;
+    options.maxDocuments = maxDocuments;
+    options.minAreaRatio = minAreaRatio;
+    options.qualityGate = qualityGate;
+    options.maxClippedRatio = maxClippedRatio;
+    options.maxGlareRatio = maxGlareRatio;
+    options.minSharpness = minSharpness;
+    return options;
+  }
+
+  static DetectionOptions from(ReadableMap map) {
+    DetectionOptions options = new DetectionOptions();
+    if (map == null) {
+      return options;
+    }
+    if (map.hasKey("detectionMaxEdge") && !map.isNull("detectionMaxEdge")) {
+      options.detectionMaxEdge = Math.max(0, map.getInt("detectionMaxEdge"));
+    }
+    if (map.hasKey("cropMode") && !map.isNull("cropMode")) {
+      String cropMode = map.getString("cropMode");
+      if (!CROP_BOUNDING_BOX.equals(cropMode) && !CROP_PERSPECTIVE.equals(cropMode)) {
+        throw new IllegalArgumentException("Unknown cropMode " + cropMode);
+      }
+      options.cropMode = cropMode;
+    }
+    if (map.hasKey("targetDpi") && !map.isNull("targetDpi")) {
+      options.targetDpi = Math.max(0, map.getDouble("targetDpi"));
+    }
+    if (map.hasKey("pageWidthMm") && !map.isNull("pageWidthMm")) {
+      options.pageWidthMm = map.getDouble("pageWidthMm");
+    }
+    if (map.hasKey("pageHeightMm") && !map.isNull("pageHeightMm")) {
+      options.pageHeightMm = map.getDouble("pageHeightMm");
+    }
+    if (map.hasKey("output") && !map.isNull("output")) {
+      String output = map.getString("output");
+      if (!OUTPUT_IMAGES.equals(output) && !OUTPUT_GEOMETRY.equals(output)) {
+        throw new IllegalArgumentException("Unknown output " + output);
+      }
+      options.output = output;
+    }
+    if (map.hasKey("format") && !map.isNull("format")) {
+      String format = map.getString("format");
+      if ("jpg".equals(format)) {
+        format = FORMAT_JPEG;
+      }
+      if (!FORMAT_PNG.equals(format) && !FORMAT_JPEG.equals(format) && !FORMAT_WEBP.equals(format)) {
+        throw new IllegalArgumentException("Unknown format " + format);
+      }
+      options.format = format;
+    }
+    if (map.hasKey("quality") && !map.isNull("quality")) {
+      options.quality = Math.max(0, Math.min(100, map.getInt("quality")));
+    }
+    if (map.hasKey("maxDimension") && !map.isNull("maxDimension")) {
+      options.maxDimension = Math.max(0, map.getInt("maxDimension"));
+    }
+    if (map.hasKey("maxDocuments") && !map.isNull("maxDocuments")) {
+      options.maxDocuments = Math.max(1, map.getInt("maxDocuments"));
+    }
+    if (map.hasKey("minAreaRatio") && !map.isNull("minAreaRatio")) {
+      options.minAreaRatio = Math.max(0, Math.min(1, map.getDouble("minAreaRatio")));
+    }
+    if (map.hasKey("cannyMode") && !map.isNull("cannyMode")) {
+      options.cannyMode = checkCannyMode(map.getString("cannyMode"));
+    }
+    if (map.hasKey("cannySigma") && !map.isNull("cannySigma")) {
+      options.cannySigma = Math.max(0, Math.min(1, map.getDouble("cannySigma")));
+    }
+    if (map.hasKey("qualityGate") && !map.isNull("qualityGate")) {
+      options.qualityGate = map.getBoolean("qualityGate");
+    }
+    if (map.hasKey("maxClippedRatio") && !map.isNull("maxClippedRatio")) {
+      options.maxClippedRatio = Math.max(0, Math.min(1, map.getDouble("maxClippedRatio")));
+    }
+    if (map.hasKey("maxGlareRatio") && !map.isNull("maxGlareRatio")) {
+      options.maxGlareRatio = Math.max(0, Math.min(1, map.getDouble("maxGlareRatio")));
+    }
+    if (map.hasKey("minSharpness") && !map.isNull("minSharpness")) {
+      options.minSharpness = Math.max(0, map.getDouble("minSharpness"));
+    }
+    return options;
+  }
+
+  static boolean isCannyMode(String cannyMode) {
+    return CANNY_FIXED.equals(cannyMode) || CANNY_MEDIAN.equals(cannyMode) || CANNY_OTSU.equals(cannyMode);
+  }
+
+  static String checkCannyMode(String cannyMode) {
+    if (!isCannyMode(cannyMode)) {
+      throw new IllegalArgumentException("Unknown cannyMode " + cannyMode);
+    }
+    return cannyMode;
+  }
+}
@@ -0,0 +1,363 @@
+package com.reactlibrary;
+
+import android.Manifest;
+import android.content.pm.PackageManager;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import android.util.Log;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.events.RCTEventEmitter;
+
+import org.opencv.android.CameraBridgeViewBase;
+import org.opencv.android.JavaCamera2View;
+import org.opencv.core.Mat;
+import org.opencv.core.Point;
+import org.opencv.core.Rect;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 카메라 미리보기 프레임의 Y 평면(gray)에서 바로 문서 사각형을 찾아 꼭짓점 좌표만 JS로 보내는 뷰.
+ * 고해상도 촬영 전에 사용자가 문서를 화면에 맞출 수 있도록 실시간 피드백을 준다.
+ */
+class DocumentCameraView extends JavaCamera2View implements CameraBridgeViewBase.CvCameraViewListener2 {
+
+  static final String EVENT_QUAD_DETECTED = "topQuadDetected";
+  static final String EVENT_AUTO_CAPTURE = "topAutoCapture";
+
+  private static final String TAG = "DocumentCameraView";
+
+  // 꼭짓점이 이 값(프레임 픽셀) 이상 움직였을 때만 JS로 이벤트를 보냄
+  private static final double MOVE_THRESHOLD = 2;
+
+  // prop setter(UI 스레드)는 복사본을 고쳐 새 객체로 바꿔 끼우고, 분석 스레드는 프레임마다 읽기만 함
+  private volatile DetectionOptions detectionOptions;
+  private final Paint overlayPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+  private volatile boolean showOverlay = true;
+  // 미리보기는 센서 속도로 그리고, 검출은 이 스레드에서 가장 최근 프레임만 처리
+  private final ExecutorService analysisExecutor = Executors.newSingleThreadExecutor();
+  // 분석 스레드 전용 검출기
+  private volatile RectangleDetector detector;
+  private QuadTracker tracker;
+  private volatile boolean trackingEnabled = true;
+  private Point[] lastQuad;
+  private boolean hasEmitted;
+  // 자동 촬영: 사각형이 autoCaptureFrames 프레임 동안 autoCaptureTolerance 안에 머물고 충분히 선명하면 고해상도로 촬영
+  private volatile boolean autoCapture;
+  private volatile int autoCaptureFrames = 10;
+  private volatile double autoCaptureTolerance = 8;
+  private volatile double minSharpness = 100;
+  private ImageQuality quality;
+  private Point[] stableQuad;
+  private int stableFrames;
+  // 한 번 촬영한 뒤에는 사각형이 사라지거나 움직일 때까지 다시 촬영하지 않음
+  private boolean captureArmed = true;
+
+  DocumentCameraView(ThemedReactContext context) {
+    super(context, CameraBridgeViewBase.CAMERA_ID_BACK);
+    DetectionOptions options = new DetectionOptions();
+    options.detectionMaxEdge = 320;
+    // 자동 캐니 임계값은 약 0.5초(15프레임)마다 다시 계산
+    options.cannyCacheFrames = 15;
+    detectionOptions = options;
+    setCvCameraViewListener(this);
+    setAnalysisExecutor(analysisExecutor, CameraBridgeViewBase.GRAY);
+    overlayPaint.setColor(Color.GREEN);
+    overlayPaint.setStyle(Paint.Style.STROKE);
+    overlayPaint.setStrokeWidth(4);
+  }
+
+  void release() {
+    disableView();
+    analysisExecutor.shutdown();
+  }
+
+  void setDetectionMaxEdge(int detectionMaxEdge) {
+    DetectionOptions options = detectionOptions.copy();
+    options.detectionMaxEdge = Math.max(0, detectionMaxEdge);
+    detectionOptions = options;
+  }
+
+  void setTrackingEnabled(boolean trackingEnabled) {
+    this.trackingEnabled = trackingEnabled;
+  }
+
+  void setCannyMode(String cannyMode) {
+    // prop setter는 UI 스레드에서 호출되므로 예외를 던지면 앱이 종료됨. 잘못된 값은 기록만 하고 fixed로 대체
+    if (!DetectionOptions.isCannyMode(cannyMode)) {
+      Log.w(TAG, "Unknown cannyMode " + cannyMode + ", using " + DetectionOptions.CANNY_FIXED);
+      cannyMode = DetectionOptions.CANNY_FIXED;
+    }
+    DetectionOptions options = detectionOptions.copy();
+    options.cannyMode = cannyMode;
+    detectionOptions = options;
+  }
+
+  void setAutoCapture(boolean autoCapture) {
+    if (this.autoCapture == autoCapture) {
+      return;
+    }
+    this.autoCapture = autoCapture;
+    // 고해상도 JPEG 출력은 세션을 만들 때만 추가할 수 있으므로 실행 중이면 카메라를 다시 연결
+    setStillCaptureEnabled(autoCapture);
+    if (isAttachedToWindow()) {
+      disableView();
+      enableView();
+    }
+  }
+
+  void setAutoCaptureFrames(int autoCaptureFrames) {
+    this.autoCaptureFrames = Math.max(1, autoCaptureFrames);
+  }
+
+  void setAutoCaptureTolerance(double autoCaptureTolerance) {
+    this.autoCaptureTolerance = Math.max(0, autoCaptureTolerance);
+  }
+
+  void setMinSharpness(double minSharpness) {
+    this.minSharpness = Math.max(0, minSharpness);
+  }
+
+  void setShowOverlay(boolean showOverlay) {
+    this.showOverlay = showOverlay;
+    if (!showOverlay) {
+      setFrameOverlay(null, null);
+    }
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    // 권한 요청은 JS(react-native-camera 등)에서 처리하고, 여기서는 이미 허용되었는지만 확인
+    if (getContext().checkCallingOrSelfPermission(Manifest.permission.CAMERA) == PackageManager.PERMISSION_GRANTED) {
+      setCameraPermissionGranted();
+    }
+    enableView();
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    disableView();
+    super.onDetachedFromWindow();
+  }
+
+  @Override
+  public void onCameraViewStarted(int width, int height) {
+    // detector(volatile)를 마지막에 써야 분석 스레드가 tracker도 초기화된 상태로 봄
+    tracker = new QuadTracker();
+    RectangleDetector frameDetector = new RectangleDetector();
+    quality = new ImageQuality(frameDetector.workspace());
+    lastQuad = null;
+    hasEmitted = false;
+    stableQuad = null;
+    stableFrames = 0;
+    captureArmed = true;
+    detector = frameDetector;
+    setFrameOverlay(null, null);
+  }
+
+  @Override
+  public void onCameraViewStopped() {
+    // 카메라 스레드를 join하고 진행 중인 분석이 끝난 뒤에 호출되므로 여기서 해제해도 안전
+    if (quality != null) {
+      quality.release();
+      quality = null;
+    }
+    if (detector != null) {
+      detector.release();
+      detector = null;
+    }
+    if (tracker != null) {
+      tracker.release();
+      tracker = null;
+    }
+  }
+
+  @Override
+  public Mat onCameraFrame(CvCameraViewFrame inputFrame) {
+    Mat gray = inputFrame.gray();
+    DetectionOptions options = detectionOptions;
+    Point[] quad = null;
+    boolean tracked = false;
+    if (detector != null && trackingEnabled) {
+      // 한 번 찾은 뒤에는 꼭짓점만 추적하고, 추적이 불안정할 때만 전체 검출
+      quad = tracker.update(gray, detector, options);
+      tracked = tracker.lastTracked();
+    } else if (detector != null) {
+      tracker.reset();
+      quad = detector.findQuad(gray, options);
+      if (quad != null) {
+        quad = RectangleDetector.orderCorners(quad);
+      }
+    }
+    if (!hasEmitted || hasMoved(lastQuad, quad)) {
+      emitQuad(quad, tracked, gray.cols(), gray.rows());
+      // 사각형이 바뀐 경우에만 오버레이 Path를 새로 만들고, 그 외 프레임은 같은 Path를 그대로 그림
+      setFrameOverlay(showOverlay ? overlayPathFor(quad) : null, overlayPaint);
+      lastQuad = quad;
+      hasEmitted = true;
+    }
+    if (autoCapture && detector != null) {
+      updateAutoCapture(gray, quad);
+    }
+    // 비동기(GRAY) 분석 모드에서는 반환값을 쓰지 않으므로 rgba()로 GRAY→RGBA 변환을 일으키지 않음
+    return null;
+  }
+
+  private void updateAutoCapture(Mat gray, Point[] quad) {
+    if (quad == null || stableQuad == null || isOutside(stableQuad, quad, autoCaptureTolerance)) {
+      // 사각형이 사라지거나 허용 범위 밖으로 움직이면 안정 구간을 새로 시작하고 다시 촬영할 수 있게 함
+      stableQuad = quad;
+      stableFrames = quad == null ? 0 : 1;
+      captureArmed = true;
+      return;
+    }
+    stableFrames++;
+    if (!captureArmed || stableFrames < autoCaptureFrames) {
+      return;
+    }
+    // 안정 구간에 들어선 뒤에만 선명도를 측정해 매 프레임 라플라시안을 계산하지 않음
+    Rect bounds = RectangleDetector.clippedBoundsFor(quad, gray.cols(), gray.rows());
+    double sharpness = quality.sharpness(gray, bounds);
+    if (sharpness < minSharpness) {
+      return;
+    }
+    captureArmed = false;
+    final Point[] capturedQuad = quad;
+    final double capturedSharpness = sharpness;
+    final int frameWidth = gray.cols();
+    final int frameHeight = gray.rows();
+    boolean started = takeStillPicture(new StillPictureCallback() {
+      @Override
+      public void onStillPicture(byte[] jpeg, int width, int height) {
+        emitAutoCapture(jpeg, width, height, capturedQuad, (double) width / frameWidth,
+            (double) height / frameHeight, capturedSharpness);
+      }
+
+      @Override
+      public void onStillPictureFailed(String reason) {
+        emitAutoCaptureError(reason);
+      }
+    });
+    if (!started) {
+      // 이전 촬영이 아직 진행 중이면 다음 안정 프레임에서 다시 시도
+      captureArmed = true;
+    }
+  }
+
+  private static boolean isOutside(Point[] reference, Point[] current, double tolerance) {
+    for (int i = 0; i < current.length; i++) {
+      if (Math.abs(reference[i].x - current[i].x) > tolerance
+          || Math.abs(reference[i].y - current[i].y) > tolerance) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasMoved(Point[] previous, Point[] current) {
+    if (previous == null || current == null) {
+      return previous != current;
+    }
+    for (int i = 0; i < current.length; i++) {
+      if (Math.abs(previous[i].x - current[i].x) >= MOVE_THRESHOLD
+          || Math.abs(previous[i].y - current[i].y) >= MOVE_THRESHOLD) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Path overlayPathFor(Point[] quad) {
+    if (quad == null) {
+      return null;
+    }
+    Path path = new Path();
+    path.moveTo((float) quad[0].x, (float) quad[0].y);
+    for (int i = 1; i < quad.length; i++) {
+      path.lineTo((float) quad[i].x, (float) quad[i].y);
+    }
+    path.close();
+    return path;
+  }
+
+  private void emitQuad(Point[] quad, boolean tracked, int frameWidth, int frameHeight) {
+    // 픽셀 데이터 없이 좌표만 전달: [x0, y0, x1, y1, ...] (좌상단, 우상단, 우하단, 좌하단)
+    WritableMap event = Arguments.createMap();
+    if (quad == null) {
+      event.putNull("quad");
+    } else {
+      WritableArray corners = Arguments.createArray();
+      for (Point point : quad) {
+        corners.pushDouble(point.x);
+        corners.pushDouble(point.y);
+      }
+      event.putArray("quad", corners);
+    }
+    event.putBoolean("tracked", tracked);
+    event.putInt("frameWidth", frameWidth);
+    event.putInt("frameHeight", frameHeight);
+    event.putDouble("droppedFrames", getDroppedFrameCount());
+    dispatch(EVENT_QUAD_DETECTED, event);
+  }
+
+  private void emitAutoCapture(byte[] jpeg, int width, int height, Point[] quad, double scaleX, double scaleY,
+                               double sharpness) {
+    File file;
+    try {
+      file = writeCapture(jpeg);
+    } catch (IOException e) {
+      Log.e(TAG, "Unable to save auto capture", e);
+      emitAutoCaptureError(e.getMessage());
+      return;
+    }
+    // 촬영 이미지는 미리보기와 같은 비율이므로 꼭짓점은 배율만 곱해 촬영 이미지 좌표로 변환
+    WritableArray corners = Arguments.createArray();
+    for (Point point : quad) {
+      corners.pushDouble(point.x * scaleX);
+      corners.pushDouble(point.y * scaleY);
+    }
+    WritableMap event = Arguments.createMap();
+    event.putString("uri", "file://" + file.getAbsolutePath());
+    event.putInt("width", width);
+    event.putInt("height", height);
+    event.putArray("quad", corners);
+    event.putDouble("sharpness", sharpness);
+    dispatch(EVENT_AUTO_CAPTURE, event);
+  }
+
+  private void emitAutoCaptureError(String reason) {
+    WritableMap event = Arguments.createMap();
+    event.putNull("uri");
+    event.putString("error", reason == null ? "Auto capture failed" : reason);
+    dispatch(EVENT_AUTO_CAPTURE, event);
+  }
+
+  private File writeCapture(byte[] jpeg) throws IOException {
+    // 촬영 파일은 JS 소유이며 RNOpenCvLibrary.clearCache로 정리
+    File file = CacheFiles.create(getContext(), "capture", ".jpg");
+    FileOutputStream output = new FileOutputStream(file);
+    try {
+      output.write(jpeg);
+    } finally {
+      output.close();
+    }
+    return file;
+  }
+
+  private void dispatch(String eventName, WritableMap event) {
+    ReactContext reactContext = (ReactContext) getContext();
+    reactContext.getJSModule(RCTEventEmitter.class).receiveEvent(getId(), eventName, event);
+  }
+}
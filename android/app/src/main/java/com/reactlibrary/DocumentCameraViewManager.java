@@ -0,0 +1,74 @@
+package com.reactlibrary;
+
+import com.facebook.react.common.MapBuilder;
+import com.facebook.react.uimanager.SimpleViewManager;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.annotations.ReactProp;
+
+import java.util.Map;
+
+public class DocumentCameraViewManager extends SimpleViewManager<DocumentCameraView> {
+
+  @Override
+  public String getName() {
+    return "RNOpenCvDocumentCamera";
+  }
+
+  @Override
+  protected DocumentCameraView createViewInstance(ThemedReactContext reactContext) {
+    return new DocumentCameraView(reactContext);
+  }
+
+  @Override
+  public void onDropViewInstance(DocumentCameraView view) {
+    view.release();
+    super.onDropViewInstance(view);
+  }
+
+  @ReactProp(name = "detectionMaxEdge", defaultInt = 320)
+  public void setDetectionMaxEdge(DocumentCameraView view, int detectionMaxEdge) {
+    view.setDetectionMaxEdge(detectionMaxEdge);
+  }
+
+  @ReactProp(name = "cannyMode")
+  public void setCannyMode(DocumentCameraView view, String cannyMode) {
+    view.setCannyMode(cannyMode == null ? DetectionOptions.CANNY_FIXED : cannyMode);
+  }
+
+  @ReactProp(name = "tracking", defaultBoolean = true)
+  public void setTracking(DocumentCameraView view, boolean tracking) {
+    view.setTrackingEnabled(tracking);
+  }
+
+  @ReactProp(name = "showOverlay", defaultBoolean = true)
+  public void setShowOverlay(DocumentCameraView view, boolean showOverlay) {
+    view.setShowOverlay(showOverlay);
+  }
+
+  @ReactProp(name = "autoCapture")
+  public void setAutoCapture(DocumentCameraView view, boolean autoCapture) {
+    view.setAutoCapture(autoCapture);
+  }
+
+  @ReactProp(name = "autoCaptureFrames", defaultInt = 10)
+  public void setAutoCaptureFrames(DocumentCameraView view, int autoCaptureFrames) {
+    view.setAutoCaptureFrames(autoCaptureFrames);
+  }
+
+  @ReactProp(name = "autoCaptureTolerance", defaultDouble = 8)
+  public void setAutoCaptureTolerance(DocumentCameraView view, double autoCaptureTolerance) {
+    view.setAutoCaptureTolerance(autoCaptureTolerance);
+  }
+
+  @ReactProp(name = "minSharpness", defaultDouble = 100)
+  public void setMinSharpness(DocumentCameraView view, double minSharpness) {
+    view.setMinSharpness(minSharpness);
+  }
+
+  @Override
+  public Map<String, Object> getExportedCustomDirectEventTypeConstants() {
+    return MapBuilder.<String, Object>of(
+        DocumentCameraView.EVENT_QUAD_DETECTED, MapBuilder.of("registrationName", "onQuadDetected"),
+        DocumentCameraView.EVENT_AUTO_CAPTURE, MapBuilder.of("registrationName", "onAutoCapture"));
+  }
+}
@@ -0,0 +1,149 @@
+package com.reactlibrary;
+
+import android.content.ContentResolver;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.net.Uri;
+import android.os.Build;
+
+import org.opencv.android.Utils;
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfByte;
+import org.opencv.core.Rect;
+import org.opencv.imgcodecs.Imgcodecs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 입력 이미지를 Bitmap을 거치지 않고 Imgcodecs로 바로 디코딩한다.
+ * 검출용으로는 코덱 단계에서 축소한 회색조 이미지를, 잘라내기용으로는 필요한 영역만 컬러로 디코딩한다.
+ * EXIF 회전은 BitmapFactory/BitmapRegionDecoder와 같게 무시하므로 두 결과의 좌표계가 일치한다.
+ */
+class ImageDecoder {
+
+  private ImageDecoder() {
+  }
+
+  static byte[] readAll(ContentResolver resolver, String imageUri) throws IOException {
+    // file:// 경로나 content:// URI에서 압축된 바이트를 그대로 읽음 (Base64 문자열을 거치지 않음)
+    Uri uri = Uri.parse(imageUri);
+    if (uri.getScheme() == null || "file".equals(uri.getScheme())) {
+      File file = new File(uri.getPath());
+      byte[] data = new byte[(int) file.length()];
+      DataInputStream input = new DataInputStream(new FileInputStream(file));
+      try {
+        input.readFully(data);
+      } finally {
+        input.close();
+      }
+      return data;
+    }
+
+    InputStream input = resolver.openInputStream(uri);
+    if (input == null) {
+      throw new IOException("Unable to open " + imageUri);
+    }
+    try {
+      ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024);
+      byte[] chunk = new byte[16 * 1024];
+      int read;
+      while ((read = input.read(chunk)) != -1) {
+        output.write(chunk, 0, read);
+      }
+      return output.toByteArray();
+    } finally {
+      input.close();
+    }
+  }
+
+  /**
+   * 헤더만 읽어 원본 크기를 {width, height}로 반환한다.
+   */
+  static int[] sizeOf(byte[] data) throws IOException {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeByteArray(data, 0, data.length, options);
+    if (options.outWidth <= 0 || options.outHeight <= 0) {
+      throw new IOException("Unable to read image size");
+    }
+    return new int[] { options.outWidth, options.outHeight };
+  }
+
+  /**
+   * 원본 전체를 BGR로 디코딩해 workspace의 "source" 버퍼로 반환한다.
+   */
+  static Mat decodeColor(byte[] data, MatWorkspace workspace) throws IOException {
+    return decode(data, Imgcodecs.IMREAD_COLOR, workspace.mat("source"));
+  }
+
+  /**
+   * 긴 변이 maxEdge 이상으로 남는 가장 큰 배율(1/2, 1/4, 1/8)로 축소해 회색조로 디코딩한다.
+   * JPEG은 DCT 단계에서 축소되므로 원본 크기의 픽셀 버퍼를 만들지 않는다. maxEdge가 0이면 원본 크기.
+   */
+  static Mat decodeGray(byte[] data, int[] size, int maxEdge, MatWorkspace workspace) throws IOException {
+    int longEdge = Math.max(size[0], size[1]);
+    int flags = Imgcodecs.IMREAD_GRAYSCALE;
+    if (maxEdge > 0) {
+      if (longEdge / 8 >= maxEdge) {
+        flags = Imgcodecs.IMREAD_REDUCED_GRAYSCALE_8;
+      } else if (longEdge / 4 >= maxEdge) {
+        flags = Imgcodecs.IMREAD_REDUCED_GRAYSCALE_4;
+      } else if (longEdge / 2 >= maxEdge) {
+        flags = Imgcodecs.IMREAD_REDUCED_GRAYSCALE_2;
+      }
+    }
+    return decode(data, flags, workspace.mat("sourceGray"));
+  }
+
+  /**
+   * region 영역만 원본 해상도의 컬러(RGBA)로 디코딩해 workspace의 "region" 버퍼로 반환한다.
+   */
+  static Mat decodeRegion(byte[] data, Rect region, MatWorkspace workspace) throws IOException {
+    BitmapRegionDecoder decoder = newRegionDecoder(data);
+    Bitmap bitmap;
+    try {
+      BitmapFactory.Options options = new BitmapFactory.Options();
+      options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+      bitmap = decoder.decodeRegion(new android.graphics.Rect(region.x, region.y,
+          region.x + region.width, region.y + region.height), options);
+    } finally {
+      decoder.recycle();
+    }
+    if (bitmap == null) {
+      throw new IOException("Unable to decode region " + region);
+    }
+    Mat image = workspace.mat("region");
+    Utils.bitmapToMat(bitmap, image);
+    bitmap.recycle();
+    return image;
+  }
+
+  // API 31부터 isShareable 인자가 있는 newInstance는 deprecated(인자가 무시됨). 그 이전 버전에서만 사용하므로 경고를 이 메소드로 한정
+  @SuppressWarnings("deprecation")
+  private static BitmapRegionDecoder newRegionDecoder(byte[] data) throws IOException {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+      return BitmapRegionDecoder.newInstance(data, 0, data.length);
+    }
+    return BitmapRegionDecoder.newInstance(data, 0, data.length, false);
+  }
+
+  private static Mat decode(byte[] data, int flags, Mat target) throws IOException {
+    MatOfByte buffer = new MatOfByte(data);
+    Mat decoded = Imgcodecs.imdecode(buffer, flags | Imgcodecs.IMREAD_IGNORE_ORIENTATION);
+    buffer.close();
+    if (decoded.empty()) {
+      decoded.close();
+      throw new IOException("Unable to decode image");
+    }
+    // imdecode는 항상 새 Mat을 만들므로 workspace 헤더가 그 버퍼를 가리키게 하고 임시 헤더는 바로 해제
+    decoded.assignTo(target);
+    decoded.close();
+    return target;
+  }
+}
@@ -0,0 +1,75 @@
+package com.reactlibrary;
+
+import android.util.Base64;
+
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfByte;
+import org.opencv.core.MatOfInt;
+import org.opencv.core.Size;
+import org.opencv.imgcodecs.Imgcodecs;
+import org.opencv.imgproc.Imgproc;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 결과 이미지(BGR 또는 RGBA)를 옵션의 포맷(png/jpeg/webp), 품질, 최대 크기로 인코딩한다.
+ * Bitmap을 거치지 않고 Imgcodecs로 바로 인코딩하며, 버퍼는 호출한 워커의 workspace에서 재사용한다.
+ */
+class ImageEncoder {
+
+  private ImageEncoder() {
+  }
+
+  static String extensionFor(DetectionOptions options) {
+    return DetectionOptions.FORMAT_JPEG.equals(options.format) ? ".jpg" : "." + options.format;
+  }
+
+  static String toBase64(Mat image, DetectionOptions options, MatWorkspace workspace) throws IOException {
+    MatOfByte encoded = workspace.bytes("encoded");
+    if (!Imgcodecs.imencode(extensionFor(options), prepare(image, options, workspace), encoded,
+        paramsFor(options, workspace))) {
+      throw new IOException("Unable to encode " + options.format);
+    }
+    return Base64.encodeToString(encoded.toArray(), Base64.DEFAULT);
+  }
+
+  static void toFile(Mat image, File file, DetectionOptions options, MatWorkspace workspace) throws IOException {
+    // 파일 출력은 imwrite가 네이티브에서 바로 쓰므로 바이트 배열을 Java로 복사하지 않음
+    if (!Imgcodecs.imwrite(file.getAbsolutePath(), prepare(image, options, workspace), paramsFor(options, workspace))) {
+      throw new IOException("Unable to write " + file);
+    }
+  }
+
+  private static Mat prepare(Mat image, DetectionOptions options, MatWorkspace workspace) {
+    // imdecode 결과는 이미 BGR이고, BitmapRegionDecoder/bitmapToMat 결과(RGBA)만 BGR로 변환
+    Mat bgr = image;
+    if (image.channels() == 4) {
+      bgr = workspace.mat("encode");
+      Imgproc.cvtColor(image, bgr, Imgproc.COLOR_RGBA2BGR);
+    }
+
+    int longEdge = Math.max(bgr.cols(), bgr.rows());
+    if (options.maxDimension <= 0 || longEdge <= options.maxDimension) {
+      return bgr;
+    }
+    double scale = (double) options.maxDimension / longEdge;
+    Mat scaled = workspace.mat("encodeScaled");
+    Imgproc.resize(bgr, scaled, new Size(Math.max(1, Math.round(bgr.cols() * scale)),
+        Math.max(1, Math.round(bgr.rows() * scale))), 0, 0, Imgproc.INTER_AREA);
+    return scaled;
+  }
+
+  private static MatOfInt paramsFor(DetectionOptions options, MatWorkspace workspace) {
+    MatOfInt params = workspace.ints("encodeParams");
+    if (DetectionOptions.FORMAT_JPEG.equals(options.format)) {
+      params.fromArray(Imgcodecs.IMWRITE_JPEG_QUALITY, options.quality);
+    } else if (DetectionOptions.FORMAT_WEBP.equals(options.format)) {
+      params.fromArray(Imgcodecs.IMWRITE_WEBP_QUALITY, Math.max(1, options.quality));
+    } else {
+      // PNG는 무손실이라 품질 값은 무시하고 OpenCV 기본 압축 수준을 사용
+      params.release();
+    }
+    return params;
+  }
+}
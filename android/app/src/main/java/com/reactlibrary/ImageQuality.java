@@ -0,0 +1,173 @@
+package com.reactlibrary;
+
+import org.opencv.core.Core;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfDouble;
+import org.opencv.core.MatOfFloat;
+import org.opencv.core.MatOfInt;
+import org.opencv.core.Rect;
+import org.opencv.core.Size;
+import org.opencv.imgproc.Imgproc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회색조 이미지의 품질 지표를 계산한다. 버퍼는 소유한 스레드의 workspace에서 재사용한다.
+ */
+class ImageQuality {
+
+  // 측정 전에 긴 변을 이 길이로 맞춰 입력 해상도와 상관없이 같은 기준값을 쓸 수 있게 함
+  static final int MEASURE_EDGE = 512;
+
+  static final String REJECT_UNDEREXPOSED = "underexposed";
+  static final String REJECT_OVEREXPOSED = "overexposed";
+  static final String REJECT_GLARE = "glare";
+  static final String REJECT_BLURRY = "blurry";
+
+  // 이 밝기 이하/이상인 픽셀을 각각 검게/하얗게 날아간 것으로 봄
+  private static final int DARK_LEVEL = 5;
+  private static final int BRIGHT_LEVEL = 250;
+  private static final Mat NO_MASK = new Mat();
+
+  /**
+   * assess 결과. rejection이 null이면 통과이고, 아니면 REJECT_* 중 처음 걸린 사유.
+   */
+  static class Report {
+    String rejection;
+    double sharpness;
+    // 전체 픽셀 대비 검게/하얗게 날아간 픽셀 비율
+    double darkRatio;
+    double brightRatio;
+    // 전체 픽셀 대비 가장 큰 반사광(하얗게 날아간 연결 영역) 면적
+    double glareRatio;
+
+    boolean isRejected() {
+      return rejection != null;
+    }
+  }
+
+  private final MatWorkspace workspace;
+  private final MatOfDouble mean = new MatOfDouble();
+  private final MatOfDouble stddev = new MatOfDouble();
+  private final double[] value = new double[1];
+  private final float[] histogram = new float[256];
+  private final List<Mat> histogramInput = new ArrayList<>(1);
+  private final MatOfInt histogramChannels = new MatOfInt(0);
+  private final MatOfInt histogramSize = new MatOfInt(256);
+  private final MatOfFloat histogramRange = new MatOfFloat(0, 256);
+  private int[] componentStats = new int[0];
+
+  ImageQuality(MatWorkspace workspace) {
+    this.workspace = workspace;
+  }
+
+  /**
+   * 라플라시안의 분산으로 선명도를 잰다. 값이 클수록 선명하며, 흔들리거나 초점이 나간 이미지는 값이 작다.
+   * roi가 null이 아니면 그 영역(문서 안쪽)만 측정한다.
+   */
+  double sharpness(Mat gray, Rect roi) {
+    return laplacianVariance(measureImage(gray, roi));
+  }
+
+  /**
+   * 무거운 처리 전에 축소한 회색조 이미지로 노출, 반사광, 선명도를 순서대로 확인한다.
+   * 노출이 날아간 이미지는 라플라시안 값도 믿을 수 없으므로 노출을 먼저 본다.
+   */
+  Report assess(Mat gray, DetectionOptions options) {
+    Mat measured = measureImage(gray, null);
+    Report report = new Report();
+    double total = measured.total();
+
+    Mat hist = workspace.mat("qualityHistogram");
+    histogramInput.clear();
+    histogramInput.add(measured);
+    Imgproc.calcHist(histogramInput, histogramChannels, NO_MASK, hist, histogramSize,
+        histogramRange);
+    histogramInput.clear();
+    hist.get(0, 0, histogram);
+    double dark = 0;
+    double bright = 0;
+    for (int i = 0; i <= DARK_LEVEL; i++) {
+      dark += histogram[i];
+    }
+    for (int i = BRIGHT_LEVEL; i < histogram.length; i++) {
+      bright += histogram[i];
+    }
+    report.darkRatio = dark / total;
+    report.brightRatio = bright / total;
+    // 하얀 픽셀 전체가 한계보다 적으면 어떤 반사광 덩어리도 한계를 넘을 수 없으므로 연결 요소 계산을 생략
+    report.glareRatio = report.brightRatio > options.maxGlareRatio ? largestGlare(measured) / total : 0;
+    report.sharpness = laplacianVariance(measured);
+
+    if (report.darkRatio > options.maxClippedRatio) {
+      report.rejection = REJECT_UNDEREXPOSED;
+    } else if (report.brightRatio > options.maxClippedRatio) {
+      report.rejection = REJECT_OVEREXPOSED;
+    } else if (report.glareRatio > options.maxGlareRatio) {
+      report.rejection = REJECT_GLARE;
+    } else if (report.sharpness < options.minSharpness) {
+      report.rejection = REJECT_BLURRY;
+    }
+    return report;
+  }
+
+  private double largestGlare(Mat gray) {
+    Mat mask = workspace.mat("glareMask");
+    Imgproc.threshold(gray, mask, BRIGHT_LEVEL - 1, 255, Imgproc.THRESH_BINARY);
+    Mat labels = workspace.mat("glareLabels");
+    Mat stats = workspace.mat("glareStats");
+    Mat centroids = workspace.mat("glareCentroids");
+    int count = Imgproc.connectedComponentsWithStats(mask, labels, stats, centroids, 8, CvType.CV_32S);
+    int size = count * Imgproc.CC_STAT_MAX;
+    if (componentStats.length < size) {
+      componentStats = new int[size];
+    }
+    stats.get(0, 0, componentStats);
+    // 0번 라벨은 배경
+    int largest = 0;
+    for (int i = 1; i < count; i++) {
+      largest = Math.max(largest, componentStats[i * Imgproc.CC_STAT_MAX + Imgproc.CC_STAT_AREA]);
+    }
+    return largest;
+  }
+
+  private double laplacianVariance(Mat measured) {
+    Mat laplacian = workspace.mat("laplacian");
+    Imgproc.Laplacian(measured, laplacian, CvType.CV_16S);
+    Core.meanStdDev(laplacian, mean, stddev);
+    stddev.get(0, 0, value);
+    return value[0] * value[0];
+  }
+
+  /**
+   * gray(또는 roi 영역)를 긴 변이 MEASURE_EDGE가 되도록 축소한 workspace 버퍼를 반환한다.
+   */
+  Mat measureImage(Mat gray, Rect roi) {
+    Mat source = gray;
+    if (roi != null) {
+      // 재사용 헤더를 원본에 연결한 뒤 ROI만 좁힘. adjustROI가 돌려주는 임시 헤더는 바로 닫아 누적되지 않게 함
+      source = workspace.mat("qualityRoi");
+      gray.assignTo(source);
+      source.adjustROI(-roi.y, roi.y + roi.height - gray.rows(), -roi.x, roi.x + roi.width - gray.cols()).close();
+    }
+    int longEdge = Math.max(source.cols(), source.rows());
+    if (longEdge <= MEASURE_EDGE) {
+      return source;
+    }
+    double scale = (double) MEASURE_EDGE / longEdge;
+    Mat resized = workspace.mat("qualityResized");
+    Imgproc.resize(source, resized, new Size(Math.max(1, Math.round(source.cols() * scale)),
+        Math.max(1, Math.round(source.rows() * scale))), 0, 0, Imgproc.INTER_AREA);
+    return resized;
+  }
+
+  void release() {
+    mean.close();
+    stddev.close();
+    histogramChannels.close();
+    histogramSize.close();
+    histogramRange.close();
+  }
+}
@@ -0,0 +1,127 @@
+package com.reactlibrary;
+
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfByte;
+import org.opencv.core.MatOfFloat;
+import org.opencv.core.MatOfInt;
+import org.opencv.core.MatOfPoint2f;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검출 파이프라인의 중간 결과를 담는 재사용 버퍼 모음. 스레드 하나(워커 하나)가 소유한다.
+ * 같은 키로 같은 크기/타입을 다시 요청하면 Mat.create가 기존 네이티브 버퍼를 그대로 사용하므로
+ * 워밍업 이후에는 네이티브 할당이 생기지 않는다. 반환된 Mat은 같은 키로 다시 요청하거나
+ * release()를 호출하기 전까지만 유효하다.
+ */
+class MatWorkspace {
+
+  private static class PointSlot {
+    final Mat storage = new Mat();
+    final MatOfPoint2f view = new MatOfPoint2f();
+  }
+
+  private final Map<String, Mat> mats = new HashMap<>();
+  private final Map<String, PointSlot> pointSlots = new HashMap<>();
+  private final List<Mat> pyramid = new ArrayList<>();
+
+  Mat mat(String key) {
+    Mat mat = mats.get(key);
+    if (mat == null) {
+      mat = new Mat();
+      mats.put(key, mat);
+    }
+    return mat;
+  }
+
+  /**
+   * 인코딩 결과처럼 크기가 매번 달라지는 바이트 버퍼. 용량이 충분하면 네이티브 버퍼를 그대로 쓴다.
+   */
+  MatOfByte bytes(String key) {
+    Mat mat = mats.get(key);
+    if (mat == null) {
+      mat = new MatOfByte();
+      mats.put(key, mat);
+    }
+    return (MatOfByte) mat;
+  }
+
+  MatOfInt ints(String key) {
+    Mat mat = mats.get(key);
+    if (mat == null) {
+      mat = new MatOfInt();
+      mats.put(key, mat);
+    }
+    return (MatOfInt) mat;
+  }
+
+  MatOfFloat floats(String key) {
+    Mat mat = mats.get(key);
+    if (mat == null) {
+      mat = new MatOfFloat();
+      mats.put(key, mat);
+    }
+    return (MatOfFloat) mat;
+  }
+
+  /**
+   * 피라미드 단계마다 크기가 다르므로 단계별로 따로 버퍼를 둔다.
+   */
+  Mat pyramidLevel(int level) {
+    while (pyramid.size() <= level) {
+      pyramid.add(new Mat());
+    }
+    return pyramid.get(level);
+  }
+
+  /**
+   * 크기가 정해지지 않은 출력용(approxPolyDP 등) 점 버퍼. 점 개수가 이전과 같으면 버퍼를 그대로 쓴다.
+   */
+  MatOfPoint2f points2f(String key) {
+    return pointSlot(key).view;
+  }
+
+  /**
+   * count개의 점을 담는 MatOfPoint2f 헤더를 돌려준다. 윤곽선마다 점 개수가 다르므로
+   * 넉넉한 저장소를 한 번 잡아두고 필요한 행만 보이도록 ROI를 조정한다(부족할 때만 두 배로 확장).
+   */
+  MatOfPoint2f points2f(String key, int count) {
+    PointSlot slot = pointSlot(key);
+    if (slot.storage.rows() < count) {
+      slot.storage.create(Math.max(count, Math.max(slot.storage.rows() * 2, 64)), 1, CvType.CV_32FC2);
+    }
+    slot.storage.assignTo(slot.view);
+    // adjustROI는 헤더를 제자리에서 바꾸고 같은 영역의 헤더를 하나 더 만들어 반환하므로 반환된 헤더는 바로 닫음
+    slot.view.adjustROI(0, count - slot.storage.rows(), 0, 0).close();
+    return slot.view;
+  }
+
+  private PointSlot pointSlot(String key) {
+    PointSlot slot = pointSlots.get(key);
+    if (slot == null) {
+      slot = new PointSlot();
+      pointSlots.put(key, slot);
+    }
+    return slot;
+  }
+
+  void release() {
+    for (Mat mat : mats.values()) {
+      mat.close();
+    }
+    for (PointSlot slot : pointSlots.values()) {
+      slot.view.close();
+      slot.storage.close();
+    }
+    for (Mat mat : pyramid) {
+      mat.close();
+    }
+    mats.clear();
+    pointSlots.clear();
+    pyramid.clear();
+  }
+}
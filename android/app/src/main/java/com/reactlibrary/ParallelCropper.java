@@ -0,0 +1,74 @@
+package com.reactlibrary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 번 디코딩한 이미지에서 여러 문서를 잘라내고 인코딩하는 작업을 병렬로 실행한다.
+ * 워커 스레드마다 자기 검출기(workspace)를 가지므로 작업끼리 버퍼를 공유하지 않는다.
+ * 원본 Mat은 모든 작업이 읽기만 하므로 동시에 접근해도 안전하다.
+ */
+class ParallelCropper {
+
+  interface CropTask<T> {
+    T crop(RectangleDetector detector) throws Exception;
+  }
+
+  private final ThreadPoolExecutor executor;
+
+  ParallelCropper(int workers) {
+    executor = new ThreadPoolExecutor(workers, workers, 30, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), new DetectionJobQueue.WorkerFactory("RNOpenCv-crop-"));
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  static ParallelCropper create() {
+    return new ParallelCropper(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+  }
+
+  /**
+   * 모든 작업을 실행하고 입력 순서대로 결과를 반환한다. 하나라도 실패하면 남은 작업을 취소하고 그 예외를 던진다.
+   */
+  <T> List<T> runAll(List<? extends CropTask<T>> tasks) throws Exception {
+    List<Future<T>> futures = new ArrayList<>(tasks.size());
+    for (final CropTask<T> task : tasks) {
+      futures.add(executor.submit(new Callable<T>() {
+        @Override
+        public T call() throws Exception {
+          return task.crop(DetectionJobQueue.workerDetector());
+        }
+      }));
+    }
+    List<T> results = new ArrayList<>(tasks.size());
+    try {
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+    } catch (ExecutionException e) {
+      cancelAll(futures);
+      Throwable cause = e.getCause();
+      throw cause instanceof Exception ? (Exception) cause : e;
+    } catch (InterruptedException e) {
+      cancelAll(futures);
+      Thread.currentThread().interrupt();
+      throw e;
+    }
+    return results;
+  }
+
+  private static void cancelAll(List<? extends Future<?>> futures) {
+    for (Future<?> future : futures) {
+      future.cancel(false);
+    }
+  }
+
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,234 @@
+package com.reactlibrary;
+
+import org.opencv.core.Core;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfByte;
+import org.opencv.core.MatOfFloat;
+import org.opencv.core.MatOfPoint2f;
+import org.opencv.core.Point;
+import org.opencv.core.Scalar;
+import org.opencv.core.Size;
+import org.opencv.core.TermCriteria;
+import org.opencv.imgproc.Imgproc;
+import org.opencv.video.KalmanFilter;
+import org.opencv.video.Video;
+
+/**
+ * 미리보기 프레임 사이에서 문서 사각형을 추적한다. 한 번 검출한 뒤에는 전체 이미지에 캐니/윤곽선 검출을 다시 하지 않고
+ * 네 꼭짓점만 피라미드 LK 옵티컬 플로로 따라가며, 칼만 필터로 떨림을 줄인다.
+ * 추적이 불안정해지거나(점 유실, 오목해짐, 면적 급변) 일정 프레임이 지나면 전체 검출로 다시 시작한다.
+ * 분석 스레드 하나가 소유한다.
+ */
+class QuadTracker {
+
+  // 추적용 축소 이미지의 긴 변. LK는 꼭짓점 주변 창만 보므로 검출보다 조금 큰 해상도로 충분함
+  private static final int TRACK_MAX_EDGE = 640;
+  private static final Size LK_WINDOW = new Size(21, 21);
+  private static final int LK_MAX_LEVEL = 3;
+  private static final TermCriteria LK_CRITERIA = new TermCriteria(TermCriteria.COUNT + TermCriteria.EPS, 20, 0.03);
+  private static final Size SUBPIX_WINDOW = new Size(5, 5);
+  private static final Size SUBPIX_ZERO_ZONE = new Size(-1, -1);
+  // 한 프레임 사이에 면적이 이 비율 이상 바뀌면 다른 물체로 옮겨간 것으로 봄
+  private static final double MAX_AREA_CHANGE = 0.2;
+  // 모서리 각도가 이보다 직각에서 멀어지면 추적을 버림 (RectangleDetector.confidenceFor 기준)
+  private static final double MIN_CONFIDENCE = 0.5;
+  // 점이 가장자리를 따라 미끄러지는 드리프트를 막기 위해 이 프레임 수마다 전체 검출로 다시 맞춤
+  private static final int REDETECT_INTERVAL = 30;
+
+  private final MatWorkspace workspace = new MatWorkspace();
+  private final KalmanFilter kalman = new KalmanFilter(16, 8, 0, CvType.CV_32F);
+  private final Mat measurement = new Mat(8, 1, CvType.CV_32F);
+  private final float[] previousCorners = new float[8];
+  private final float[] trackedCorners = new float[8];
+  private final float[] smoothed = new float[8];
+  private final float[] stateBuffer = new float[16];
+  private final byte[] status = new byte[4];
+  private Mat previousFrame = workspace.mat("trackA");
+  private Mat currentFrame = workspace.mat("trackB");
+  private boolean tracking;
+  private int framesSinceDetection;
+  private boolean lastTracked;
+
+  QuadTracker() {
+    // 상태: 꼭짓점 네 개의 (x, y, vx, vy), 측정: (x, y). 등속 모델
+    Mat transition = Mat.eye(16, 16, CvType.CV_32F);
+    for (int i = 0; i < 8; i++) {
+      transition.put(i, 8 + i, 1);
+    }
+    kalman.set_transitionMatrix(transition);
+    transition.close();
+    Mat measurementMatrix = Mat.eye(8, 16, CvType.CV_32F);
+    kalman.set_measurementMatrix(measurementMatrix);
+    measurementMatrix.close();
+    Mat processNoise = new Mat(16, 16, CvType.CV_32F);
+    Core.setIdentity(processNoise, new Scalar(1e-2));
+    kalman.set_processNoiseCov(processNoise);
+    processNoise.close();
+    Mat measurementNoise = new Mat(8, 8, CvType.CV_32F);
+    Core.setIdentity(measurementNoise, new Scalar(1e-1));
+    kalman.set_measurementNoiseCov(measurementNoise);
+    measurementNoise.close();
+  }
+
+  /**
+   * 마지막 update가 전체 검출 없이 추적만으로 결과를 냈는지 여부.
+   */
+  boolean lastTracked() {
+    return lastTracked;
+  }
+
+  void reset() {
+    tracking = false;
+  }
+
+  /**
+   * gray 프레임에서 사각형의 네 꼭짓점을 gray 좌표로 반환한다(좌상단, 우상단, 우하단, 좌하단). 없으면 null.
+   */
+  Point[] update(Mat gray, RectangleDetector detector, DetectionOptions options) {
+    Mat small = downscale(gray, currentFrame);
+    double scaleX = (double) gray.cols() / small.cols();
+    double scaleY = (double) gray.rows() / small.rows();
+
+    lastTracked = tracking && framesSinceDetection < REDETECT_INTERVAL && track(small);
+    if (!lastTracked) {
+      Point[] quad = detector.findQuad(gray, options);
+      if (quad == null) {
+        tracking = false;
+        return null;
+      }
+      seed(RectangleDetector.orderCorners(quad), small, scaleX, scaleY);
+    }
+    framesSinceDetection = lastTracked ? framesSinceDetection + 1 : 0;
+    swapFrames();
+
+    Point[] corners = new Point[4];
+    for (int i = 0; i < corners.length; i++) {
+      corners[i] = new Point(smoothed[2 * i] * scaleX, smoothed[2 * i + 1] * scaleY);
+    }
+    return corners;
+  }
+
+  private Mat downscale(Mat gray, Mat target) {
+    // 긴 변이 TRACK_MAX_EDGE 이하가 될 때까지 절반씩 줄인 크기로 한 번에 축소
+    int width = gray.cols();
+    int height = gray.rows();
+    while (Math.max(width, height) > TRACK_MAX_EDGE) {
+      width = (width + 1) / 2;
+      height = (height + 1) / 2;
+    }
+    if (width == gray.cols() && height == gray.rows()) {
+      gray.copyTo(target);
+    } else {
+      Imgproc.resize(gray, target, new Size(width, height), 0, 0, Imgproc.INTER_AREA);
+    }
+    return target;
+  }
+
+  private boolean track(Mat small) {
+    MatOfPoint2f previousPoints = workspace.points2f("previous", 4);
+    previousPoints.put(0, 0, previousCorners);
+    MatOfPoint2f nextPoints = workspace.points2f("next", 4);
+    MatOfByte trackStatus = workspace.bytes("status");
+    MatOfFloat trackError = workspace.floats("error");
+    Video.calcOpticalFlowPyrLK(previousFrame, small, previousPoints, nextPoints, trackStatus, trackError,
+        LK_WINDOW, LK_MAX_LEVEL, LK_CRITERIA);
+    if (trackStatus.total() < 4) {
+      return false;
+    }
+    trackStatus.get(0, 0, status);
+    for (byte found : status) {
+      if (found == 0) {
+        return false;
+      }
+    }
+    nextPoints.get(0, 0, trackedCorners);
+
+    // 추적한 사각형이 여전히 문서처럼 보이는지 확인
+    Point[] corners = toPoints(trackedCorners);
+    double previousArea = area(previousCorners);
+    double area = area(trackedCorners);
+    if (previousArea <= 0 || Math.abs(area - previousArea) > previousArea * MAX_AREA_CHANGE
+        || !isInside(trackedCorners, small.cols(), small.rows())
+        || RectangleDetector.confidenceFor(corners) < MIN_CONFIDENCE) {
+      return false;
+    }
+
+    System.arraycopy(trackedCorners, 0, previousCorners, 0, 8);
+    smooth(trackedCorners);
+    return true;
+  }
+
+  private void seed(Point[] corners, Mat small, double scaleX, double scaleY) {
+    MatOfPoint2f points = workspace.points2f("seed", 4);
+    for (int i = 0; i < corners.length; i++) {
+      previousCorners[2 * i] = (float) (corners[i].x / scaleX);
+      previousCorners[2 * i + 1] = (float) (corners[i].y / scaleY);
+    }
+    // 축소 이미지에서 찾은 꼭짓점을 서브픽셀 단위로 다듬어 추적 시작점으로 사용
+    points.put(0, 0, previousCorners);
+    Imgproc.cornerSubPix(small, points, SUBPIX_WINDOW, SUBPIX_ZERO_ZONE, LK_CRITERIA);
+    points.get(0, 0, previousCorners);
+
+    // 새로 검출했으므로 칼만 상태를 측정값으로 초기화하고 속도는 0으로
+    Mat state = new Mat(16, 1, CvType.CV_32F, Scalar.all(0));
+    state.put(0, 0, previousCorners);
+    kalman.set_statePost(state);
+    state.close();
+    Mat errorCov = Mat.eye(16, 16, CvType.CV_32F);
+    kalman.set_errorCovPost(errorCov);
+    errorCov.close();
+    System.arraycopy(previousCorners, 0, smoothed, 0, 8);
+    tracking = true;
+  }
+
+  private void smooth(float[] corners) {
+    Mat predicted = kalman.predict();
+    predicted.close();
+    measurement.put(0, 0, corners);
+    Mat corrected = kalman.correct(measurement);
+    corrected.get(0, 0, stateBuffer);
+    corrected.close();
+    System.arraycopy(stateBuffer, 0, smoothed, 0, 8);
+  }
+
+  private void swapFrames() {
+    Mat frame = previousFrame;
+    previousFrame = currentFrame;
+    currentFrame = frame;
+  }
+
+  private static Point[] toPoints(float[] v) {
+    Point[] points = new Point[4];
+    for (int i = 0; i < points.length; i++) {
+      points[i] = new Point(v[2 * i], v[2 * i + 1]);
+    }
+    return points;
+  }
+
+  private static double area(float[] v) {
+    // 신발끈 공식
+    double area = 0;
+    for (int i = 0; i < 4; i++) {
+      int j = (i + 1) % 4;
+      area += v[2 * i] * v[2 * j + 1] - v[2 * j] * v[2 * i + 1];
+    }
+    return Math.abs(area) / 2;
+  }
+
+  private static boolean isInside(float[] v, int width, int height) {
+    for (int i = 0; i < 4; i++) {
+      if (v[2 * i] < 0 || v[2 * i + 1] < 0 || v[2 * i] > width - 1 || v[2 * i + 1] > height - 1) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void release() {
+    workspace.release();
+    measurement.close();
+    kalman.close();
+    tracking = false;
+  }
+}
@@ -5,34 +5,40 @@ import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.Callback;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
 
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
+import android.net.Uri;
 import android.util.Base64;
 
-import org.opencv.core.Core;
-import org.opencv.core.CvType;
 import org.opencv.core.Mat;
-
-import org.opencv.android.Utils;
-import org.opencv.core.MatOfPoint;
-import org.opencv.core.MatOfPoint2f;
+import org.opencv.core.MatRegistry;
 import org.opencv.core.Point;
 import org.opencv.core.Rect;
-import org.opencv.core.Scalar;
-import org.opencv.core.Size;
-import org.opencv.imgcodecs.Imgcodecs;
-import org.opencv.imgproc.Imgproc;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class RNOpenCvLibraryModule extends ReactContextBaseJavaModule {
 
+  static final String EVENT_BATCH_PROGRESS = "RNOpenCvBatchProgress";
+  static final String E_QUALITY_REJECTED = "E_QUALITY_REJECTED";
+  // getNativeMemoryStats가 보내는 할당 위치 수 (메모리를 많이 쓰는 순)
+  private static final int MAX_MEMORY_SITES = 20;
+
   private final ReactApplicationContext reactContext;
+  private final DetectionJobQueue jobQueue = DetectionJobQueue.create();
+  // 콜백 방식 메소드는 네이티브 모듈 스레드에서 순차적으로 실행되므로 검출기 하나를 재사용
+  private final RectangleDetector moduleDetector = new RectangleDetector();
+  private final ImageQuality moduleQuality = new ImageQuality(moduleDetector.workspace());
+  private final ParallelCropper cropper = ParallelCropper.create();
+  private final DetectionBatchRunner batchRunner = DetectionBatchRunner.create();
 
   public RNOpenCvLibraryModule(ReactApplicationContext reactContext) {
     super(reactContext);
@@ -44,97 +50,126 @@ public class RNOpenCvLibraryModule extends ReactContextBaseJavaModule {
     return "RNOpenCvLibrary";
   }
 
-  private String matToBase64Image(Mat image) {
-    // OpenCV 매트 이미지를 비트맵으로 변환
-    Bitmap bitmap = Bitmap.createBitmap(image.cols(), image.rows(), Bitmap.Config.ARGB_8888);
-    Utils.matToBitmap(image, bitmap);
-    // 비트맵을 Base64로 인코딩된 문자열로 변환
-    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    bitmap.compress(Bitmap.CompressFormat.PNG, 100, byteArrayOutputStream);
-    byte[] byteArray = byteArrayOutputStream.toByteArray();
-    String base64Image = Base64.encodeToString(byteArray, Base64.DEFAULT);
-    return base64Image;
-  }
-
-  private void edgesFor(Mat image) {
-    // 가장자리 감지를 수행: 캐니 가장자리 감지 알고리즘을 그레이스케일 이미지에 적용
-    // threshold: 에지가 너무 약하거나 노이즈가 있는 경우 낮춰라. 반대로 에지가 너무 강하거나 중요한 에지가 많이 누락된 경우 높여라
-    int threshold = 30;
-    Imgproc.Canny(image, image, threshold, threshold * 3);
-    Imgproc.dilate(image, image, new Mat(), new Point(-1, -1), 1);
-  }
-
-  private Mat processImage(Mat image) {
-    // 이미지의 특징을 추출하기 위해서 회색조 매트 오브젝트로 변환
-    Mat result = new Mat();
-    Imgproc.cvtColor(image, result, Imgproc.COLOR_BGR2GRAY);
-    Imgproc.GaussianBlur(result, result, new Size(5, 5), 0);
-    // Imgproc.adaptiveThreshold(result, result, 255,
-    // Imgproc.ADAPTIVE_THRESH_MEAN_C, Imgproc.THRESH_BINARY, 7, 5);
-    edgesFor(result);
-    return result;
+  @Override
+  public void invalidate() {
+    jobQueue.shutdown();
+    cropper.shutdown();
+    batchRunner.shutdown();
+    moduleQuality.release();
+    moduleDetector.release();
+    super.invalidate();
   }
 
-  private Mat largestRectangleFor(List<MatOfPoint> contours, Mat image) {
-    double maxArea = 0;
-    Rect largestRect = null;
-    for (MatOfPoint contour : contours) {
-      double contourArea = Imgproc.contourArea(contour);
-      if (Math.abs(contourArea) < 100) {
-        continue;
-      }
+  private Mat uriToMat(String imageUri, MatWorkspace workspace) throws IOException {
+    // Bitmap을 거치지 않고 압축 바이트에서 바로 BGR Mat으로 디코딩
+    return ImageDecoder.decodeColor(ImageDecoder.readAll(reactContext.getContentResolver(), imageUri), workspace);
+  }
 
-      MatOfPoint2f curve = new MatOfPoint2f(contour.toArray());
-      MatOfPoint2f approx = new MatOfPoint2f();
-      double epsilon = 0.02 * Imgproc.arcLength(curve, true);
-      Imgproc.approxPolyDP(curve, approx, epsilon, true);
-      if (approx.total() == 4) {
-        double area = Imgproc.contourArea(approx);
-        if (area > maxArea) {
-          maxArea = area;
-          largestRect = Imgproc.boundingRect(new MatOfPoint(approx.toArray()));
-        }
-      }
+  private String matToCacheFile(Mat image, String prefix, DetectionOptions options, MatWorkspace workspace)
+      throws IOException {
+    // 결과 이미지를 캐시 디렉터리에 파일로 저장하고 file:// URI를 반환 (파일은 JS 소유, clearCache로 정리)
+    File file = CacheFiles.create(reactContext, prefix, ImageEncoder.extensionFor(options));
+    ImageEncoder.toFile(image, file, options, workspace);
+    return Uri.fromFile(file).toString();
+  }
+
+  @ReactMethod
+  public void checkForRectangle(String imageAsBase64, Callback errorCallback, Callback successCallback) {
+    try {
+      // 기존 호출부 호환을 위해 오류는 메시지 문자열로 전달 (옵션이 없으므로 품질 거절은 생기지 않음)
+      checkForRectangle(imageAsBase64, DetectionOptions.DEFAULT, errorCallback, successCallback);
+    } catch (Exception e) {
+      errorCallback.invoke(e.getMessage());
+    }
+  }
+
+  /**
+   * 오류는 항상 {code, message, ...} 맵으로 전달한다. 옵션 오류는 E_INVALID_OPTIONS, 품질 거절은
+   * E_QUALITY_REJECTED(측정값 포함), 그 밖의 실패는 E_DETECTION.
+   */
+  @ReactMethod
+  public void checkForRectangleWithOptions(String imageAsBase64, ReadableMap options, Callback errorCallback,
+      Callback successCallback) {
+    DetectionOptions detectionOptions;
+    try {
+      detectionOptions = DetectionOptions.from(options);
+    } catch (IllegalArgumentException e) {
+      errorCallback.invoke(errorFor("E_INVALID_OPTIONS", e));
+      return;
     }
-    if (largestRect == null) {
-      return null;
+    try {
+      checkForRectangle(imageAsBase64, detectionOptions, errorCallback, successCallback);
+    } catch (Exception e) {
+      errorCallback.invoke(errorFor(DetectionJobQueue.E_DETECTION, e));
     }
+  }
 
-    Imgproc.rectangle(image, largestRect.tl(), largestRect.br(), new Scalar(0, 255, 0), 2);
-    boolean isSizeValidation = largestRect.width > image.width() * 0.5 && largestRect.height > image.height() * 0.5;
-    if (!isSizeValidation) {
-      return null;
+  private void checkForRectangle(String imageAsBase64, DetectionOptions detectionOptions, Callback errorCallback,
+      Callback successCallback) throws IOException {
+    // Base64 이미지 문자열을 압축 바이트로 되돌린 뒤 MAT객체로 바로 디코딩
+    byte[] decodedString = Base64.decode(imageAsBase64, Base64.DEFAULT);
+    MatWorkspace workspace = moduleDetector.workspace();
+    if (detectionOptions.qualityGate) {
+      // 흔들리거나 노출이 날아간 이미지는 원본 디코딩/검출/인코딩 없이 몇 ms 안에 거절
+      ImageQuality.Report report = checkQuality(decodedString, detectionOptions, workspace);
+      if (report.isRejected()) {
+        errorCallback.invoke(rejectionFor(report));
+        return;
+      }
     }
+    Mat image = ImageDecoder.decodeColor(decodedString, workspace);
 
-    Mat croppedImage = new Mat(image, largestRect);
-    return croppedImage;
+    Mat croppedMat = moduleDetector.detect(image, detectionOptions);
+    String originImage = ImageEncoder.toBase64(image, detectionOptions, workspace);
+    String croppedImage = croppedMat == null ? null : ImageEncoder.toBase64(croppedMat, detectionOptions, workspace);
+
+    WritableArray array = Arguments.createArray();
+    array.pushString(originImage);
+    array.pushString(croppedImage);
+    successCallback.invoke(array);
   }
 
-  @ReactMethod
-  public void checkForRectangle(String imageAsBase64, Callback errorCallback, Callback successCallback) {
-    try {
-      BitmapFactory.Options options = new BitmapFactory.Options();
-      options.inDither = true;
-      options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+  private static WritableMap errorFor(String code, Exception e) {
+    WritableMap error = Arguments.createMap();
+    error.putString("code", code);
+    error.putString("message", e.getMessage() == null ? e.toString() : e.getMessage());
+    return error;
+  }
 
-      // Base64 이미지 문자열을 비트맵 객체로 디코딩 후, MAT객체로 변환
-      byte[] decodedString = Base64.decode(imageAsBase64, Base64.DEFAULT);
-      Bitmap sourceBitmap = BitmapFactory.decodeByteArray(decodedString, 0, decodedString.length);
-      Mat image = new Mat();
-      Utils.bitmapToMat(sourceBitmap, image);
+  private ImageQuality.Report checkQuality(byte[] data, DetectionOptions options, MatWorkspace workspace)
+      throws IOException {
+    // 코덱 단계에서 측정 해상도 근처까지 축소한 회색조만 디코딩
+    Mat gray = ImageDecoder.decodeGray(data, ImageDecoder.sizeOf(data), ImageQuality.MEASURE_EDGE, workspace);
+    return moduleQuality.assess(gray, options);
+  }
 
-      // 이미지의 특징을 추출하기 위해서 비트맵을 회색조 매트 오브젝트로 변환
-      Mat processed = processImage(image);
+  private static WritableMap rejectionFor(ImageQuality.Report report) {
+    WritableMap rejection = Arguments.createMap();
+    rejection.putString("code", E_QUALITY_REJECTED);
+    rejection.putString("reason", report.rejection);
+    rejection.putString("message", "Image rejected: " + report.rejection);
+    rejection.putDouble("sharpness", report.sharpness);
+    rejection.putDouble("darkRatio", report.darkRatio);
+    rejection.putDouble("brightRatio", report.brightRatio);
+    rejection.putDouble("glareRatio", report.glareRatio);
+    return rejection;
+  }
 
-      // RETR_EXTERNAL은 다른 윤곽선 안에 포함된 윤곽선은 무시하고 외부(외부) 윤곽선만 검색(윤곽 검색 모드)
-      // CHAIN_APPROX_SIMPLE는 가로, 세로, 대각선 세그먼트를 각각의 끝점으로 압축하고 중간 지점은 버림(윤곽 근사화 방법)
-      List<MatOfPoint> contours = new ArrayList<>();
-      Mat hierarchy = new Mat();
-      Imgproc.findContours(processed, contours, hierarchy, Imgproc.RETR_LIST, Imgproc.CHAIN_APPROX_SIMPLE);
+  /**
+   * 원본(윤곽선 표시)과 잘라낸 이미지를 캐시 디렉터리에 파일로 저장해 file:// URI로 반환한다.
+   * 반환된 파일은 호출한 쪽이 소유하므로 다 쓰면 clearCache로 지운다.
+   */
+  @ReactMethod
+  public void checkForRectangleFromUri(String imageUri, Callback errorCallback, Callback successCallback) {
+    try {
+      // 픽셀 데이터는 브리지를 통해 문자열로 오가지 않고, 입력/출력 모두 파일 URI로 전달
+      MatWorkspace workspace = moduleDetector.workspace();
+      Mat image = uriToMat(imageUri, workspace);
 
-      Mat croppedMat = largestRectangleFor(contours, image);
-      String originImage = matToBase64Image(image);
-      String croppedImage = croppedMat == null ? null : matToBase64Image(croppedMat);
+      Mat croppedMat = moduleDetector.detect(image, DetectionOptions.DEFAULT);
+      String originImage = matToCacheFile(image, "origin", DetectionOptions.DEFAULT, workspace);
+      String croppedImage = croppedMat == null ? null
+          : matToCacheFile(croppedMat, "cropped", DetectionOptions.DEFAULT, workspace);
 
       WritableArray array = Arguments.createArray();
       array.pushString(originImage);
@@ -145,53 +180,290 @@ public class RNOpenCvLibraryModule extends ReactContextBaseJavaModule {
     }
   }
 
-  private double angle(Point pt1, Point pt2, Point pt0) {
-    double dx1 = pt1.x - pt0.x;
-    double dy1 = pt1.y - pt0.y;
-    double dx2 = pt2.x - pt0.x;
-    double dy2 = pt2.y - pt0.y;
-    return (dx1 * dx2 + dy1 * dy2) / Math.sqrt((dx1 * dx1 + dy1 * dy1) * (dx2 * dx2 + dy2 * dy2) + 1e-10);
+  @ReactMethod
+  public void detectRectangle(final String jobId, final String imageUri, ReadableMap options, Promise promise) {
+    final DetectionOptions detectionOptions;
+    try {
+      detectionOptions = DetectionOptions.from(options);
+    } catch (IllegalArgumentException e) {
+      promise.reject("E_INVALID_OPTIONS", e.getMessage());
+      return;
+    }
+    // 무거운 디코딩/검출/인코딩은 워커 풀에서 실행하고 결과는 Promise로 전달
+    jobQueue.submit(jobId, new DetectionJobQueue.Task() {
+      @Override
+      public Object run(DetectionJobQueue.Job job, RectangleDetector detector) throws Exception {
+        WritableMap result = runDetectionJob(job, detector, imageUri, detectionOptions);
+        result.putString("jobId", job.id);
+        return result;
+      }
+    }, promise);
   }
 
-  private boolean checkCosine(MatOfPoint2f approx) {
-    boolean result = false;
-    int verticeCnt = (int) approx.total();
-    if (verticeCnt >= 4 && verticeCnt <= 6) {
-      List<Double> cos = new ArrayList<>();
-      for (int j = 2; j < verticeCnt + 1; j++) {
-        cos.add(angle(approx.toArray()[j % verticeCnt], approx.toArray()[j - 2],
-            approx.toArray()[j - 1]));
+  @ReactMethod
+  public void detectDocuments(final String jobId, final String imageUri, ReadableMap options, Promise promise) {
+    final DetectionOptions detectionOptions;
+    try {
+      detectionOptions = DetectionOptions.from(options);
+    } catch (IllegalArgumentException e) {
+      promise.reject("E_INVALID_OPTIONS", e.getMessage());
+      return;
+    }
+    // 영수증 여러 장처럼 한 이미지에 있는 모든 문서를 점수 순으로 반환
+    jobQueue.submit(jobId, new DetectionJobQueue.Task() {
+      @Override
+      public Object run(DetectionJobQueue.Job job, RectangleDetector detector) throws Exception {
+        return runDocumentsJob(job, detector, imageUri, detectionOptions);
+      }
+    }, promise);
+  }
+
+  @ReactMethod
+  public void detectRectangleBatch(final String batchId, ReadableArray imageUris, ReadableMap options,
+      final Promise promise) {
+    final DetectionOptions detectionOptions;
+    try {
+      detectionOptions = DetectionOptions.from(options);
+    } catch (IllegalArgumentException e) {
+      promise.reject("E_INVALID_OPTIONS", e.getMessage());
+      return;
+    }
+    final String[] uris = new String[imageUris.size()];
+    for (int i = 0; i < uris.length; i++) {
+      uris[i] = imageUris.getString(i);
+    }
+    // 이미지마다 detectRectangle과 같은 결과를 EVENT_BATCH_PROGRESS로 바로 보내고, 배치가 끝나면 요약으로 resolve
+    boolean submitted = batchRunner.submit(batchId, uris.length, new DetectionBatchRunner.ImageTask() {
+      @Override
+      public Object run(int index, RectangleDetector detector, DetectionJobQueue.Cancellation cancellation)
+          throws Exception {
+        return runDetectionJob(cancellation, detector, uris[index], detectionOptions);
+      }
+    }, new DetectionBatchRunner.Listener() {
+      @Override
+      public void onImageDone(int index, Object result, String errorCode, String errorMessage, int completed) {
+        WritableMap event = Arguments.createMap();
+        event.putString("batchId", batchId);
+        event.putInt("index", index);
+        event.putString("imageUri", uris[index]);
+        event.putInt("completed", completed);
+        event.putInt("total", uris.length);
+        if (result == null) {
+          event.putNull("result");
+          WritableMap error = Arguments.createMap();
+          error.putString("code", errorCode);
+          error.putString("message", errorMessage);
+          event.putMap("error", error);
+        } else {
+          event.putMap("result", (WritableMap) result);
+          event.putNull("error");
+        }
+        emit(EVENT_BATCH_PROGRESS, event);
+      }
+
+      @Override
+      public void onBatchDone(int succeeded, int failed, boolean cancelled) {
+        WritableMap summary = Arguments.createMap();
+        summary.putString("batchId", batchId);
+        summary.putInt("total", uris.length);
+        summary.putInt("succeeded", succeeded);
+        summary.putInt("failed", failed);
+        summary.putBoolean("cancelled", cancelled);
+        promise.resolve(summary);
       }
-      Collections.sort(cos);
-      double mincos = cos.get(0);
-      double maxcos = cos.get(cos.size() - 1);
+    });
+    if (!submitted) {
+      promise.reject(DetectionJobQueue.E_DUPLICATE_JOB, "Batch " + batchId + " is already running");
+    }
+  }
+
+  /**
+   * 이 모듈과 DocumentCameraView가 캐시 디렉터리에 만든 결과 파일을 모두 지우고 지운 개수로 resolve한다.
+   * 진행 중인 검출이나 자동 촬영이 없을 때 호출한다.
+   */
+  @ReactMethod
+  public void clearCache(Promise promise) {
+    promise.resolve(CacheFiles.clear(reactContext));
+  }
+
+  @ReactMethod
+  public void cancelDetection(String jobId, Promise promise) {
+    promise.resolve(jobQueue.cancel(jobId) || batchRunner.cancel(jobId));
+  }
 
-      result = verticeCnt == 4 && mincos >= -0.1 && maxcos <= 0.3;
+  @ReactMethod
+  public void setNativeMemoryTracking(boolean enabled, int siteSampleInterval) {
+    // 켜면 이후에 만들어지는 Mat을 할당 위치별로 집계. 스택 추적은 siteSampleInterval개마다 한 번만 기록
+    if (enabled) {
+      MatRegistry.enable(siteSampleInterval);
+    } else {
+      MatRegistry.disable();
+    }
+  }
+
+  @ReactMethod
+  public void getNativeMemoryStats(Promise promise) {
+    MatRegistry.Snapshot snapshot = MatRegistry.snapshot();
+    WritableArray sites = Arguments.createArray();
+    for (int i = 0; i < Math.min(MAX_MEMORY_SITES, snapshot.sites.size()); i++) {
+      MatRegistry.SiteStats stats = snapshot.sites.get(i);
+      WritableMap site = Arguments.createMap();
+      site.putString("site", stats.site);
+      site.putInt("liveMats", stats.liveMats);
+      site.putDouble("liveBytes", stats.liveBytes);
+      site.putDouble("maxSampledBytes", stats.maxSampledBytes);
+      site.putDouble("allocations", stats.allocations);
+      site.putDouble("leaks", stats.leaks);
+      site.putDouble("leakedBytes", stats.leakedBytes);
+      sites.pushMap(site);
     }
+    WritableMap result = Arguments.createMap();
+    result.putBoolean("enabled", MatRegistry.isEnabled());
+    result.putInt("liveMats", snapshot.liveMats);
+    result.putDouble("liveBytes", snapshot.liveBytes);
+    result.putDouble("maxSampledBytes", snapshot.maxSampledBytes);
+    result.putArray("sites", sites);
+    promise.resolve(result);
+  }
+
+  // NativeEventEmitter가 요구하는 메소드. 구독 수는 JS 쪽에서 관리하므로 여기서는 할 일이 없음
+  @ReactMethod
+  public void addListener(String eventName) {
+  }
+
+  @ReactMethod
+  public void removeListeners(Integer count) {
+  }
+
+  private void emit(String eventName, WritableMap event) {
+    if (reactContext.hasActiveReactInstance()) {
+      reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class).emit(eventName, event);
+    }
+  }
+
+  private WritableMap runDetectionJob(DetectionJobQueue.Cancellation job, RectangleDetector detector,
+      String imageUri, DetectionOptions options) throws IOException {
+    // 디코딩부터 인코딩까지 워커 전용 workspace의 버퍼를 재사용
+    MatWorkspace workspace = detector.workspace();
+    WritableMap result = Arguments.createMap();
+    if (DetectionOptions.OUTPUT_GEOMETRY.equals(options.output)) {
+      return putGeometry(result, job, detector, imageUri, options);
+    }
+
+    Mat image = uriToMat(imageUri, workspace);
+    job.throwIfCancelled();
+    Mat croppedMat = detector.detect(image, options);
+    job.throwIfCancelled();
+    result.putString("origin", matToCacheFile(image, "origin", options, workspace));
+    putCroppedFile(result, croppedMat, options, workspace);
     return result;
   }
 
-  private List<MatOfPoint> rectanglesFor(List<MatOfPoint> contours, Mat image) {
-    List<MatOfPoint> rectangles = new ArrayList<>();
+  private WritableMap putGeometry(WritableMap result, DetectionJobQueue.Cancellation job,
+      RectangleDetector detector, String imageUri, DetectionOptions options) throws IOException {
+    // JS가 이미 원본 파일을 갖고 있으므로 좌표만 돌려주고, 오버레이는 UI에서 그림.
+    // 원본 전체를 컬러로 디코딩하지 않고, 검출은 코덱에서 축소한 회색조로, 잘라내기는 해당 영역만 컬러로 디코딩
+    MatWorkspace workspace = detector.workspace();
+    byte[] data = ImageDecoder.readAll(reactContext.getContentResolver(), imageUri);
+    int[] size = ImageDecoder.sizeOf(data);
+    int width = size[0];
+    int height = size[1];
+    Mat gray = ImageDecoder.decodeGray(data, size, options.detectionMaxEdge, workspace);
+    job.throwIfCancelled();
 
-    for (MatOfPoint contour : contours) {
-      double contourArea = Imgproc.contourArea(contour);
-      if (Math.abs(contourArea) < 100) {
-        continue;
-      }
+    Point[] quad = detector.findQuad(gray, options);
+    job.throwIfCancelled();
+    result.putInt("imageWidth", width);
+    result.putInt("imageHeight", height);
+    if (quad == null) {
+      result.putNull("quad");
+      result.putDouble("confidence", 0);
+      result.putNull("cropped");
+      return result;
+    }
 
-      MatOfPoint2f curve = new MatOfPoint2f(contour.toArray());
-      MatOfPoint2f approx = new MatOfPoint2f();
-      double epsilon = 0.02 * Imgproc.arcLength(curve, true);
-      Imgproc.approxPolyDP(curve, approx, epsilon, true);
+    double scaleX = (double) width / gray.cols();
+    double scaleY = (double) height / gray.rows();
+    for (Point point : quad) {
+      point.x *= scaleX;
+      point.y *= scaleY;
+    }
+    Point[] corners = RectangleDetector.orderCorners(quad);
+    result.putArray("quad", cornersToArray(corners));
+    result.putDouble("confidence", RectangleDetector.confidenceFor(corners));
 
-      if (approx.total() == 4) {
-        Rect rect = Imgproc.boundingRect(new MatOfPoint(approx.toArray()));
-        Imgproc.rectangle(image, rect.tl(), rect.br(), new Scalar(0, 255, 0), 2);
-        rectangles.add(contour);
+    Rect bounds = RectangleDetector.clippedBoundsFor(quad, width, height);
+    Mat croppedMat = null;
+    if (RectangleDetector.isLargeEnough(bounds, width, height)) {
+      Mat region = ImageDecoder.decodeRegion(data, bounds, workspace);
+      job.throwIfCancelled();
+      // 꼭짓점을 잘라낸 영역 기준 좌표로 옮긴 뒤 같은 방식으로 잘라냄
+      Point[] regionQuad = new Point[quad.length];
+      for (int i = 0; i < quad.length; i++) {
+        regionQuad[i] = new Point(quad[i].x - bounds.x, quad[i].y - bounds.y);
       }
+      croppedMat = detector.crop(regionQuad, region, options);
     }
+    putCroppedFile(result, croppedMat, options, workspace);
+    return result;
+  }
 
-    return rectangles;
+  private static WritableArray cornersToArray(Point[] corners) {
+    // [x0, y0, x1, y1, ...] (좌상단, 우상단, 우하단, 좌하단)
+    WritableArray points = Arguments.createArray();
+    for (Point corner : corners) {
+      points.pushDouble(corner.x);
+      points.pushDouble(corner.y);
+    }
+    return points;
+  }
+
+  private WritableMap runDocumentsJob(DetectionJobQueue.Job job, RectangleDetector detector, String imageUri,
+      final DetectionOptions options) throws Exception {
+    // 한 번 디코딩한 원본에서 모든 문서를 찾고, 잘라내기와 인코딩은 문서마다 병렬로 실행
+    final Mat image = uriToMat(imageUri, detector.workspace());
+    job.throwIfCancelled();
+    List<RectangleDetector.DetectedQuad> quads = detector.findQuads(image, options);
+    job.throwIfCancelled();
+
+    List<ParallelCropper.CropTask<String>> tasks = new ArrayList<>(quads.size());
+    for (final RectangleDetector.DetectedQuad quad : quads) {
+      tasks.add(new ParallelCropper.CropTask<String>() {
+        @Override
+        public String crop(RectangleDetector cropDetector) throws Exception {
+          Mat cropped = cropDetector.cropRegion(quad.corners, image, options);
+          return matToCacheFile(cropped, "document", options, cropDetector.workspace());
+        }
+      });
+    }
+    List<String> croppedFiles = cropper.runAll(tasks);
+    job.throwIfCancelled();
+
+    WritableArray documents = Arguments.createArray();
+    for (int i = 0; i < quads.size(); i++) {
+      RectangleDetector.DetectedQuad quad = quads.get(i);
+      WritableMap document = Arguments.createMap();
+      document.putArray("quad", cornersToArray(quad.corners));
+      document.putDouble("confidence", quad.confidence);
+      document.putDouble("areaRatio", quad.areaRatio);
+      document.putDouble("score", quad.score);
+      document.putString("cropped", croppedFiles.get(i));
+      documents.pushMap(document);
+    }
+    WritableMap result = Arguments.createMap();
+    result.putString("jobId", job.id);
+    result.putInt("imageWidth", image.cols());
+    result.putInt("imageHeight", image.rows());
+    result.putArray("documents", documents);
+    return result;
+  }
+
+  private void putCroppedFile(WritableMap result, Mat croppedMat, DetectionOptions options,
+      MatWorkspace workspace) throws IOException {
+    if (croppedMat == null) {
+      result.putNull("cropped");
+    } else {
+      result.putString("cropped", matToCacheFile(croppedMat, "cropped", options, workspace));
+    }
   }
-}
\ No newline at end of file
+}
@@ -23,6 +23,6 @@ public class RNOpenCvLibraryPackage implements ReactPackage {
 
   @Override
   public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
-    return Collections.emptyList();
+    return Arrays.<ViewManager>asList(new DocumentCameraViewManager());
   }
 }
\ No newline at end of file
@@ -0,0 +1,615 @@
+package com.reactlibrary;
+
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfFloat;
+import org.opencv.core.MatOfInt;
+import org.opencv.core.MatOfPoint2f;
+import org.opencv.core.Point;
+import org.opencv.core.PointBuffer;
+import org.opencv.core.Rect;
+import org.opencv.core.Scalar;
+import org.opencv.core.Size;
+import org.opencv.imgproc.Imgproc;
+import org.opencv.imgproc.PackedContours;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 사각형(문서) 검출 파이프라인. 인스턴스마다 MatWorkspace를 하나씩 가지므로
+ * 스레드 사이에서 공유하지 말고 워커마다 하나씩 만들어 쓴다.
+ */
+class RectangleDetector {
+
+  private static final Size BLUR_SIZE = new Size(5, 5);
+  private static final Point ANCHOR = new Point(-1, -1);
+  private static final Mat NO_MASK = new Mat();
+  private static final Scalar OUTLINE_COLOR = new Scalar(0, 255, 0);
+  // 작은 쪽 면적의 이 비율 이상 겹치면 같은 문서로 보고 점수가 낮은 후보를 버림
+  private static final double MAX_OVERLAP = 0.3;
+
+  /**
+   * findQuads 결과 하나. 꼭짓점은 원본 image 좌표이다.
+   */
+  static class DetectedQuad {
+    final Point[] corners;
+    // 이미지 면적 대비 사각형 면적
+    final double areaRatio;
+    // 네 모서리가 직각에 가까운 정도 (confidenceFor)
+    final double confidence;
+    final double score;
+
+    DetectedQuad(Point[] corners, double areaRatio, double confidence) {
+      this.corners = corners;
+      this.areaRatio = areaRatio;
+      this.confidence = confidence;
+      this.score = areaRatio * confidence;
+    }
+
+    double area() {
+      double area = 0;
+      for (int i = 0; i < corners.length; i++) {
+        int j = (i + 1) % corners.length;
+        area += corners[i].x * corners[j].y - corners[j].x * corners[i].y;
+      }
+      return Math.abs(area) / 2;
+    }
+  }
+
+  private final MatWorkspace workspace = new MatWorkspace();
+  // 윤곽선 전체를 네이티브 버퍼 하나로 받아 한 번에 복사해 옴 (윤곽선마다 MatOfPoint를 만들지 않음)
+  private final PackedContours contours = new PackedContours();
+  private final PointBuffer contourPoints = new PointBuffer(1024);
+  // 근사화할 윤곽선 하나의 float 좌표 버퍼: x0, y0, x1, y1, ...
+  private float[] curvePoints = new float[512];
+  // approx 꼭짓점(최대 6개)을 Point 객체 없이 읽어오는 재사용 버퍼: x0, y0, x1, y1, ...
+  private final float[] vertices = new float[12];
+  private final float[] largestVertices = new float[8];
+  // 후보 윤곽선 정렬용 재사용 버퍼: 상위 32비트는 외접 사각형 면적(float 비트), 하위 32비트는 윤곽선 인덱스
+  private long[] candidates = new long[256];
+  // 자동 캐니 임계값 계산용 히스토그램 버퍼와 프레임 간 캐시
+  private final float[] histogram = new float[256];
+  private final List<Mat> histogramInput = new ArrayList<>(1);
+  private final MatOfInt histogramChannels = new MatOfInt(0);
+  private final MatOfInt histogramSize = new MatOfInt(256);
+  private final MatOfFloat histogramRange = new MatOfFloat(0, 256);
+  private double cannyLow;
+  private double cannyHigh;
+  private String cannyCacheMode;
+  private int cannyCacheCols;
+  private int cannyCacheRows;
+  private int cannyCacheAge;
+
+  MatWorkspace workspace() {
+    return workspace;
+  }
+
+  void release() {
+    workspace.release();
+    contours.close();
+    contourPoints.clear();
+    histogramInput.clear();
+    histogramChannels.close();
+    histogramSize.close();
+    histogramRange.close();
+    cannyCacheMode = null;
+  }
+
+  private void edgesFor(Mat image, DetectionOptions options) {
+    // 가장자리 감지를 수행: 캐니 가장자리 감지 알고리즘을 그레이스케일 이미지에 적용
+    // threshold: 에지가 너무 약하거나 노이즈가 있는 경우 낮춰라. 반대로 에지가 너무 강하거나 중요한 에지가 많이 누락된 경우 높여라
+    double threshold = 30;
+    double highThreshold = threshold * 3;
+    if (!DetectionOptions.CANNY_FIXED.equals(options.cannyMode)) {
+      updateCannyThresholds(image, options);
+      threshold = cannyLow;
+      highThreshold = cannyHigh;
+    }
+    Imgproc.Canny(image, image, threshold, highThreshold);
+    Imgproc.dilate(image, image, workspace.mat("kernel"), ANCHOR, 1);
+  }
+
+  /**
+   * 축소·블러된 회색조 이미지의 밝기 분포로 캐니 임계값을 정한다. 연속된 미리보기 프레임은 분포가 거의 같으므로
+   * options.cannyCacheFrames 프레임 동안은 이전 값을 그대로 쓴다(크기나 모드가 바뀌면 다시 계산).
+   */
+  private void updateCannyThresholds(Mat gray, DetectionOptions options) {
+    if (options.cannyMode.equals(cannyCacheMode) && gray.cols() == cannyCacheCols && gray.rows() == cannyCacheRows
+        && cannyCacheAge < options.cannyCacheFrames) {
+      cannyCacheAge++;
+      return;
+    }
+    if (DetectionOptions.CANNY_OTSU.equals(options.cannyMode)) {
+      // 오츠 임계값을 높은 임계값으로, 그 절반을 낮은 임계값으로 사용
+      double otsu = Imgproc.threshold(gray, workspace.mat("otsu"), 0, 255, Imgproc.THRESH_BINARY | Imgproc.THRESH_OTSU);
+      cannyHigh = otsu;
+      cannyLow = otsu / 2;
+    } else {
+      // 중앙값 m에 대해 [(1 - sigma) * m, (1 + sigma) * m]
+      double median = medianOf(gray);
+      cannyLow = Math.max(0, (1 - options.cannySigma) * median);
+      cannyHigh = Math.min(255, (1 + options.cannySigma) * median);
+    }
+    // 거의 단색인 이미지에서 임계값이 0 근처로 떨어져 노이즈가 모두 에지가 되지 않도록 하한을 둠
+    cannyHigh = Math.max(cannyHigh, 10);
+    cannyLow = Math.min(Math.max(cannyLow, 5), cannyHigh);
+    cannyCacheMode = options.cannyMode;
+    cannyCacheCols = gray.cols();
+    cannyCacheRows = gray.rows();
+    cannyCacheAge = 0;
+  }
+
+  private double medianOf(Mat gray) {
+    Mat hist = workspace.mat("histogram");
+    Imgproc.calcHist(histogramImages(gray), histogramChannels, NO_MASK, hist, histogramSize, histogramRange);
+    hist.get(0, 0, histogram);
+    double half = gray.total() / 2.0;
+    double cumulative = 0;
+    for (int i = 0; i < histogram.length; i++) {
+      cumulative += histogram[i];
+      if (cumulative >= half) {
+        return i;
+      }
+    }
+    return histogram.length - 1;
+  }
+
+  private List<Mat> histogramImages(Mat gray) {
+    histogramInput.clear();
+    histogramInput.add(gray);
+    return histogramInput;
+  }
+
+  private Mat processImage(Mat image, DetectionOptions options) {
+    int maxEdge = options.detectionMaxEdge;
+    // 이미지의 특징을 추출하기 위해서 회색조 매트 오브젝트로 변환
+    // 카메라 Y 평면처럼 이미 회색조인 입력은 변환 없이 쓰되, 원본 버퍼는 수정하지 않음
+    Mat result = image;
+    if (image.channels() != 1) {
+      result = workspace.pyramidLevel(0);
+      Imgproc.cvtColor(image, result, Imgproc.COLOR_BGR2GRAY);
+    }
+    // 긴 변이 maxEdge 이하가 될 때까지 피라미드 축소: 검출 비용이 센서 해상도가 아닌 maxEdge에 비례
+    int level = 0;
+    while (maxEdge > 0 && Math.max(result.cols(), result.rows()) > maxEdge) {
+      Mat reduced = workspace.pyramidLevel(++level);
+      Imgproc.pyrDown(result, reduced);
+      result = reduced;
+    }
+    if (result == image) {
+      result = workspace.pyramidLevel(0);
+      image.copyTo(result);
+    }
+    Imgproc.GaussianBlur(result, result, BLUR_SIZE, 0);
+    // Imgproc.adaptiveThreshold(result, result, 255,
+    // Imgproc.ADAPTIVE_THRESH_MEAN_C, Imgproc.THRESH_BINARY, 7, 5);
+    edgesFor(result, options);
+    return result;
+  }
+
+  private void findContours(Mat processed) {
+    // RETR_LIST는 계층 구조 없이 모든 윤곽선을 검색(윤곽 검색 모드)
+    // CHAIN_APPROX_SIMPLE는 가로, 세로, 대각선 세그먼트를 각각의 끝점으로 압축하고 중간 지점은 버림(윤곽 근사화 방법)
+    // 윤곽선 개수와 상관없이 findContours 한 번과 점 복사 한 번으로 끝남
+    contours.find(processed, Imgproc.RETR_LIST, Imgproc.CHAIN_APPROX_SIMPLE).readPoints(contourPoints);
+  }
+
+  private MatOfPoint2f approxFor(int index) {
+    // contourPoints에 이미 읽어 둔 정수 좌표를 float로 바꿔 재사용 Mat에 한 번에 씀
+    int start = contours.start(index);
+    int length = contours.length(index);
+    if (curvePoints.length < 2 * length) {
+      curvePoints = new float[Math.max(2 * length, 2 * curvePoints.length)];
+    }
+    int[] points = contourPoints.data();
+    for (int i = 0; i < 2 * length; i++) {
+      curvePoints[i] = points[2 * start + i];
+    }
+    MatOfPoint2f curve = workspace.points2f("curve", length);
+    curve.put(0, 0, curvePoints);
+    MatOfPoint2f approx = workspace.points2f("approx");
+    double epsilon = 0.02 * Imgproc.arcLength(curve, true);
+    Imgproc.approxPolyDP(curve, approx, epsilon, true);
+    return approx;
+  }
+
+  private int readVertices(MatOfPoint2f approx) {
+    // JNI 복사 한 번으로 꼭짓점을 재사용 버퍼에 읽음 (toArray()처럼 Point[]를 만들지 않음)
+    int count = (int) approx.total();
+    if (count > 0 && count * 2 <= vertices.length) {
+      approx.get(0, 0, vertices);
+    }
+    return count;
+  }
+
+  private static double polygonArea(float[] v, int count) {
+    // 신발끈 공식
+    double area = 0;
+    for (int i = 0; i < count; i++) {
+      int j = (i + 1) % count;
+      area += v[2 * i] * v[2 * j + 1] - v[2 * j] * v[2 * i + 1];
+    }
+    return Math.abs(area) / 2;
+  }
+
+  private static boolean isConvex(float[] v, int count) {
+    // 연속한 세 꼭짓점의 외적 부호가 모두 같으면 볼록 다각형
+    int sign = 0;
+    for (int i = 0; i < count; i++) {
+      int j = (i + 1) % count;
+      int k = (i + 2) % count;
+      double cross = (v[2 * j] - v[2 * i]) * (v[2 * k + 1] - v[2 * j + 1])
+          - (v[2 * j + 1] - v[2 * i + 1]) * (v[2 * k] - v[2 * j]);
+      if (cross != 0) {
+        int current = cross > 0 ? 1 : -1;
+        if (sign != 0 && current != sign) {
+          return false;
+        }
+        sign = current;
+      }
+    }
+    return sign != 0;
+  }
+
+  private int collectCandidates(double minArea) {
+    int count = 0;
+    int[] points = contourPoints.data();
+    for (int i = 0; i < contours.size(); i++) {
+      // Imgproc.contourArea와 외접 사각형을 JNI 호출 없이 계산
+      int start = contours.start(i);
+      int end = start + contours.length(i);
+      double contourArea = 0;
+      int minX = Integer.MAX_VALUE;
+      int minY = Integer.MAX_VALUE;
+      int maxX = Integer.MIN_VALUE;
+      int maxY = Integer.MIN_VALUE;
+      for (int p = start; p < end; p++) {
+        int q = p + 1 < end ? p + 1 : start;
+        int x = points[2 * p];
+        int y = points[2 * p + 1];
+        contourArea += (double) x * points[2 * q + 1] - (double) points[2 * q] * y;
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+      }
+      contourArea = Math.abs(contourArea) / 2;
+      if (contourArea < minArea) {
+        continue;
+      }
+      // approxPolyDP의 꼭짓점은 윤곽선 점 중에서 고르므로 근사 다각형은 윤곽선의 외접 사각형 안에 있고,
+      // 그 면적은 외접 사각형 면적을 넘지 못함 (윤곽선 면적은 볼록하지 않은 윤곽선에서 근사 다각형보다 작을 수 있음)
+      double boundsArea = (double) (maxX - minX) * (maxY - minY);
+      if (count == candidates.length) {
+        candidates = Arrays.copyOf(candidates, count * 2);
+      }
+      // 음수가 아닌 float의 비트 표현은 값의 크기 순서와 같으므로 long 정렬이 곧 면적 정렬
+      candidates[count++] = ((long) Float.floatToIntBits((float) boundsArea) << 32) | i;
+    }
+    Arrays.sort(candidates, 0, count);
+    return count;
+  }
+
+  private Point[] largestQuadFor(double minArea) {
+    double maxArea = 0;
+    boolean found = false;
+    // 크기 조건(이미지의 50% 초과)은 여기서 거르지 않음: 가장 큰 사각형을 고른 뒤 crop에서 거절해야
+    // 그보다 작은 사각형이 대신 선택되지 않음
+    int count = collectCandidates(minArea);
+    // 외접 사각형이 큰 윤곽선부터 근사화
+    for (int c = count - 1; c >= 0; c--) {
+      // float 반올림으로 작아졌을 수 있으므로 한 단계 올려서 상한으로 사용
+      double boundsArea = Math.nextUp(Float.intBitsToFloat((int) (candidates[c] >>> 32)));
+      if (boundsArea <= maxArea) {
+        // 근사 다각형의 면적은 외접 사각형 면적 이하이므로 남은 후보는 현재 최댓값을 넘지 못함
+        break;
+      }
+
+      MatOfPoint2f approx = approxFor((int) candidates[c]);
+      if (readVertices(approx) == 4 && isConvex(vertices, 4)) {
+        double area = polygonArea(vertices, 4);
+        if (area > maxArea) {
+          maxArea = area;
+          found = true;
+          System.arraycopy(vertices, 0, largestVertices, 0, largestVertices.length);
+        }
+      }
+    }
+    if (!found) {
+      return null;
+    }
+
+    // 최종 결과 하나만 Point로 변환
+    Point[] largestQuad = new Point[4];
+    for (int i = 0; i < largestQuad.length; i++) {
+      largestQuad[i] = new Point(largestVertices[2 * i], largestVertices[2 * i + 1]);
+    }
+    return largestQuad;
+  }
+
+  /**
+   * 다각형 순서(approxPolyDP 결과처럼 이웃한 꼭짓점이 연속)로 된 quad를 좌상단, 우상단, 우하단, 좌하단 순서로 바꾼다.
+   */
+  static Point[] orderCorners(Point[] quad) {
+    // x+y / y-x 극값으로 고르면 45도 근처에서 같은 꼭짓점이 두 번 뽑히므로, 다각형의 순환 순서를 유지한 채
+    // 화면 기준 시계 방향(y축이 아래이므로 신발끈 합이 양수)으로 맞추고 x+y가 가장 작은 꼭짓점부터 시작
+    int count = quad.length;
+    double area = 0;
+    int first = 0;
+    for (int i = 0; i < count; i++) {
+      Point current = quad[i];
+      Point next = quad[(i + 1) % count];
+      area += current.x * next.y - next.x * current.y;
+      if (current.x + current.y < quad[first].x + quad[first].y) {
+        first = i;
+      }
+    }
+    int step = area < 0 ? count - 1 : 1;
+    Point[] corners = new Point[count];
+    for (int i = 0; i < count; i++) {
+      corners[i] = quad[(first + i * step) % count];
+    }
+    return corners;
+  }
+
+  private static double distance(Point a, Point b) {
+    return Math.hypot(a.x - b.x, a.y - b.y);
+  }
+
+  private Mat perspectiveRectangleFor(Point[] quad, Mat image, DetectionOptions options) {
+    Point[] corners = orderCorners(quad);
+    double width = Math.max(distance(corners[0], corners[1]), distance(corners[3], corners[2]));
+    double height = Math.max(distance(corners[0], corners[3]), distance(corners[1], corners[2]));
+    if (options.targetDpi > 0) {
+      // 용지의 긴 변을 검출된 사각형의 긴 변 방향에 맞춰 DPI 기준 픽셀 크기로 변환
+      double shortMm = Math.min(options.pageWidthMm, options.pageHeightMm);
+      double longMm = Math.max(options.pageWidthMm, options.pageHeightMm);
+      boolean landscape = width > height;
+      width = (landscape ? longMm : shortMm) / 25.4 * options.targetDpi;
+      height = (landscape ? shortMm : longMm) / 25.4 * options.targetDpi;
+    }
+    int outputWidth = Math.max((int) Math.round(width), 1);
+    int outputHeight = Math.max((int) Math.round(height), 1);
+
+    MatOfPoint2f source = workspace.points2f("warpSource", 4);
+    source.put(0, 0,
+        corners[0].x, corners[0].y, corners[1].x, corners[1].y,
+        corners[2].x, corners[2].y, corners[3].x, corners[3].y);
+    MatOfPoint2f destination = workspace.points2f("warpDestination", 4);
+    destination.put(0, 0,
+        0, 0, outputWidth - 1, 0,
+        outputWidth - 1, outputHeight - 1, 0, outputHeight - 1);
+    Mat transform = Imgproc.getPerspectiveTransform(source, destination);
+    Mat warped = workspace.mat("warped");
+    Imgproc.warpPerspective(image, warped, transform, new Size(outputWidth, outputHeight), Imgproc.INTER_LINEAR);
+    transform.close();
+    return warped;
+  }
+
+  static Rect clippedBoundsFor(Point[] quad, int width, int height) {
+    // 축소 이미지 좌표를 되돌리는 과정에서 생긴 반올림 오차로 이미지 밖으로 나가지 않도록 자름
+    double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+    for (Point point : quad) {
+      minX = Math.min(minX, point.x);
+      minY = Math.min(minY, point.y);
+      maxX = Math.max(maxX, point.x);
+      maxY = Math.max(maxY, point.y);
+    }
+    int left = Math.max((int) Math.floor(minX), 0);
+    int top = Math.max((int) Math.floor(minY), 0);
+    int right = Math.min((int) Math.floor(maxX) + 1, width);
+    int bottom = Math.min((int) Math.floor(maxY) + 1, height);
+    return new Rect(left, top, Math.max(right - left, 0), Math.max(bottom - top, 0));
+  }
+
+  /**
+   * 잘라낼 만큼 큰 사각형인지(가로, 세로 모두 이미지의 절반보다 큰지) 확인한다.
+   */
+  static boolean isLargeEnough(Rect bounds, int width, int height) {
+    return bounds.width > width * 0.5 && bounds.height > height * 0.5;
+  }
+
+  /**
+   * quad 영역을 원본 해상도에서 잘라낸 Mat을 반환한다. image에는 아무것도 그리지 않는다.
+   * 사각형이 이미지의 절반보다 작으면 null. 반환된 Mat은 workspace 소유이다.
+   */
+  Mat crop(Point[] quad, Mat image, DetectionOptions options) {
+    if (quad == null) {
+      return null;
+    }
+    Rect bounds = clippedBoundsFor(quad, image.width(), image.height());
+    if (!isLargeEnough(bounds, image.width(), image.height())) {
+      return null;
+    }
+    return cropRegion(quad, image, options);
+  }
+
+  /**
+   * crop과 같지만 크기 조건을 확인하지 않는다. 여러 문서를 잘라낼 때 사용한다.
+   */
+  Mat cropRegion(Point[] quad, Mat image, DetectionOptions options) {
+    Rect bounds = clippedBoundsFor(quad, image.width(), image.height());
+    if (DetectionOptions.CROP_PERSPECTIVE.equals(options.cropMode)) {
+      return perspectiveRectangleFor(quad, image, options);
+    }
+
+    // 재사용 헤더를 원본에 연결한 뒤 ROI만 좁힘. adjustROI가 돌려주는 임시 헤더는 바로 닫아 누적되지 않게 함
+    Mat croppedImage = workspace.mat("cropped");
+    image.assignTo(croppedImage);
+    croppedImage.adjustROI(-bounds.y, bounds.y + bounds.height - image.rows(),
+        -bounds.x, bounds.x + bounds.width - image.cols()).close();
+    return croppedImage;
+  }
+
+  private Mat largestRectangleFor(Point[] quad, Mat image, DetectionOptions options) {
+    if (quad == null) {
+      return null;
+    }
+
+    if (DetectionOptions.CROP_PERSPECTIVE.equals(options.cropMode)) {
+      // 원본에 윤곽선을 그리기 전에 보정해야 결과에 초록색 선이 남지 않음
+      Mat warpedImage = crop(quad, image, options);
+      Point[] corners = orderCorners(quad);
+      for (int i = 0; i < corners.length; i++) {
+        Imgproc.line(image, corners[i], corners[(i + 1) % corners.length], OUTLINE_COLOR, 2);
+      }
+      return warpedImage;
+    }
+
+    Rect largestRect = clippedBoundsFor(quad, image.width(), image.height());
+    Imgproc.rectangle(image, largestRect.tl(), largestRect.br(), OUTLINE_COLOR, 2);
+    return crop(quad, image, options);
+  }
+
+  /**
+   * 네 모서리가 직각에 얼마나 가까운지를 0~1로 나타낸다(1이면 모든 모서리가 직각).
+   * 비스듬히 찍은 문서는 원근 때문에 값이 낮아진다.
+   */
+  static double confidenceFor(Point[] corners) {
+    double maxCos = 0;
+    for (int i = 0; i < corners.length; i++) {
+      Point previous = corners[(i + corners.length - 1) % corners.length];
+      Point current = corners[i];
+      Point next = corners[(i + 1) % corners.length];
+      double dx1 = previous.x - current.x;
+      double dy1 = previous.y - current.y;
+      double dx2 = next.x - current.x;
+      double dy2 = next.y - current.y;
+      double cos = (dx1 * dx2 + dy1 * dy2) / Math.sqrt((dx1 * dx1 + dy1 * dy1) * (dx2 * dx2 + dy2 * dy2) + 1e-10);
+      maxCos = Math.max(maxCos, Math.abs(cos));
+    }
+    return 1 - maxCos;
+  }
+
+  /**
+   * image(BGR/RGBA 또는 회색조)에서 가장 큰 볼록 사각형의 네 꼭짓점을 image 좌표로 반환한다. 없으면 null.
+   */
+  Point[] findQuad(Mat image, DetectionOptions options) {
+    // 이미지의 특징을 추출하기 위해서 비트맵을 회색조 매트 오브젝트로 변환
+    Mat processed = processImage(image, options);
+    double scaleX = (double) image.cols() / processed.cols();
+    double scaleY = (double) image.rows() / processed.rows();
+
+    findContours(processed);
+
+    // 최소 면적(원본 기준 100px²)도 축소 비율에 맞춤
+    Point[] quad = largestQuadFor(100 / (scaleX * scaleY));
+    if (quad != null) {
+      // 축소 이미지에서 찾은 사각형을 원본 좌표로 되돌림
+      for (Point point : quad) {
+        point.x *= scaleX;
+        point.y *= scaleY;
+      }
+    }
+    return quad;
+  }
+
+  /**
+   * image에서 가장 큰 사각형을 찾아 원본 해상도에서 잘라낸 Mat을 반환한다. 반환된 Mat은 workspace 소유이므로
+   * 다음 detect 호출 전까지만 유효하며 호출한 쪽에서 release하지 않는다.
+   */
+  Mat detect(Mat image, DetectionOptions options) {
+    return largestRectangleFor(findQuad(image, options), image, options);
+  }
+
+  /**
+   * 각도 조건(checkCosine)을 통과하는 볼록 사각형을 모두 찾아, 서로 겹치는 후보는 점수가 높은 것만 남기고
+   * 점수(면적 비율 × 직각 신뢰도) 내림차순으로 최대 options.maxDocuments개를 반환한다. 꼭짓점은 image 좌표이며
+   * 좌상단, 우상단, 우하단, 좌하단 순서이다.
+   */
+  List<DetectedQuad> findQuads(Mat image, DetectionOptions options) {
+    Mat processed = processImage(image, options);
+    double scaleX = (double) image.cols() / processed.cols();
+    double scaleY = (double) image.rows() / processed.rows();
+    double processedArea = (double) processed.cols() * processed.rows();
+
+    findContours(processed);
+
+    double minArea = Math.max(100 / (scaleX * scaleY), processedArea * options.minAreaRatio);
+    int count = collectCandidates(minArea);
+    List<DetectedQuad> found = new ArrayList<>();
+    for (int c = count - 1; c >= 0; c--) {
+      MatOfPoint2f approx = approxFor((int) candidates[c]);
+      // checkCosine이 꼭짓점을 vertices 버퍼로 읽어둠
+      if (!checkCosine(approx) || !isConvex(vertices, 4)) {
+        continue;
+      }
+      Point[] quad = new Point[4];
+      for (int i = 0; i < quad.length; i++) {
+        quad[i] = new Point(vertices[2 * i] * scaleX, vertices[2 * i + 1] * scaleY);
+      }
+      Point[] corners = orderCorners(quad);
+      double areaRatio = polygonArea(vertices, 4) / processedArea;
+      found.add(new DetectedQuad(corners, areaRatio, confidenceFor(corners)));
+    }
+
+    Collections.sort(found, new Comparator<DetectedQuad>() {
+      @Override
+      public int compare(DetectedQuad a, DetectedQuad b) {
+        return Double.compare(b.score, a.score);
+      }
+    });
+    return suppressOverlaps(found, options.maxDocuments);
+  }
+
+  private List<DetectedQuad> suppressOverlaps(List<DetectedQuad> ranked, int maxCount) {
+    // 비최대 억제: 가장자리 띠의 안쪽/바깥쪽 윤곽선처럼 같은 문서를 가리키는 후보는 점수가 높은 것만 남김
+    List<DetectedQuad> kept = new ArrayList<>();
+    MatOfPoint2f first = workspace.points2f("overlapA", 4);
+    MatOfPoint2f second = workspace.points2f("overlapB", 4);
+    MatOfPoint2f intersection = workspace.points2f("overlap");
+    for (DetectedQuad candidate : ranked) {
+      if (kept.size() >= maxCount) {
+        break;
+      }
+      putCorners(first, candidate.corners);
+      boolean overlaps = false;
+      for (DetectedQuad accepted : kept) {
+        putCorners(second, accepted.corners);
+        double overlap = Imgproc.intersectConvexConvex(first, second, intersection, true);
+        double smaller = Math.min(candidate.area(), accepted.area());
+        if (overlap > smaller * MAX_OVERLAP) {
+          overlaps = true;
+          break;
+        }
+      }
+      if (!overlaps) {
+        kept.add(candidate);
+      }
+    }
+    return kept;
+  }
+
+  private static void putCorners(MatOfPoint2f target, Point[] corners) {
+    target.put(0, 0,
+        corners[0].x, corners[0].y, corners[1].x, corners[1].y,
+        corners[2].x, corners[2].y, corners[3].x, corners[3].y);
+  }
+
+  private static double angle(float[] v, int i1, int i2, int i0) {
+    double dx1 = v[2 * i1] - v[2 * i0];
+    double dy1 = v[2 * i1 + 1] - v[2 * i0 + 1];
+    double dx2 = v[2 * i2] - v[2 * i0];
+    double dy2 = v[2 * i2 + 1] - v[2 * i0 + 1];
+    return (dx1 * dx2 + dy1 * dy2) / Math.sqrt((dx1 * dx1 + dy1 * dy1) * (dx2 * dx2 + dy2 * dy2) + 1e-10);
+  }
+
+  private boolean checkCosine(MatOfPoint2f approx) {
+    int verticeCnt = readVertices(approx);
+    if (verticeCnt < 4 || verticeCnt > 6) {
+      return false;
+    }
+    // 코사인 목록을 만들어 정렬하지 않고 최솟값/최댓값만 유지
+    double mincos = Double.MAX_VALUE;
+    double maxcos = -Double.MAX_VALUE;
+    for (int j = 2; j < verticeCnt + 1; j++) {
+      double cos = angle(vertices, j % verticeCnt, j - 2, j - 1);
+      mincos = Math.min(mincos, cos);
+      maxcos = Math.max(maxcos, cos);
+    }
+    return verticeCnt == 4 && mincos >= -0.1 && maxcos <= 0.3;
+  }
+}
@@ -1,11 +1,14 @@
 package org.opencv.android;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.opencv.BuildConfig;
 import org.opencv.R;
 import org.opencv.core.Mat;
 import org.opencv.core.Size;
+import org.opencv.imgproc.Imgproc;
 
 import android.app.Activity;
 import android.app.AlertDialog;
@@ -14,6 +17,8 @@ import android.content.DialogInterface;
 import android.content.res.TypedArray;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.Rect;
 import android.util.AttributeSet;
 import android.util.Log;
@@ -51,6 +56,25 @@ public abstract class CameraBridgeViewBase extends SurfaceView implements Surfac
     protected boolean mCameraPermissionGranted = false;
     protected FpsMeter mFpsMeter = null;
 
+    private final Rect mSrcRect = new Rect();
+    private final Rect mDstRect = new Rect();
+    private int mDrawCanvasWidth = -1;
+    private int mDrawCanvasHeight = -1;
+    private boolean mDstCoversCanvas;
+    private float mOverlayScaleX = 1;
+    private float mOverlayScaleY = 1;
+    private volatile FrameOverlay mFrameOverlay;
+
+    private Executor mAnalysisExecutor;
+    private int mAnalysisFormat = RGBA;
+    private final Object mAnalysisLock = new Object();
+    private final AnalysisFrame[] mAnalysisFrames = { new AnalysisFrame(), new AnalysisFrame(), new AnalysisFrame() };
+    private AnalysisFrame mPendingFrame;
+    private AnalysisFrame mAnalyzingFrame;
+    private boolean mAnalysisScheduled;
+    private long mAnalyzedFrameCount;
+    private long mDroppedFrameCount;
+
     public static final int CAMERA_ID_ANY   = -1;
     public static final int CAMERA_ID_BACK  = 99;
     public static final int CAMERA_ID_FRONT = 98;
@@ -286,6 +310,62 @@ public abstract class CameraBridgeViewBase extends SurfaceView implements Surfac
         mListener = adapter;
     }
 
+    /**
+     * This method moves listener work off the camera thread. When an executor is set, every
+     * frame is drawn as soon as it arrives and a copy of it is handed to the listener on the
+     * executor. If the listener is still busy when newer frames arrive, only the newest one is
+     * kept (latest frame wins) and the skipped ones are counted as dropped. The Mat returned
+     * from onCameraFrame() is ignored in this mode. Pass null to process frames synchronously
+     * on the camera thread again.
+     * @param executor - the executor to run listener work on, or null
+     */
+    public void setAnalysisExecutor(Executor executor) {
+        setAnalysisExecutor(executor, RGBA);
+    }
+
+    /**
+     * Same as {@link #setAnalysisExecutor(Executor)}, but lets listeners that only read gray()
+     * skip copying the RGBA frame. With GRAY, rgba() of the analysis frame is derived from the
+     * gray copy on demand.
+     * @param executor - the executor to run listener work on, or null
+     * @param format - RGBA or GRAY
+     */
+    public void setAnalysisExecutor(Executor executor, int format) {
+        mAnalysisFormat = format;
+        mAnalysisExecutor = executor;
+    }
+
+    /**
+     * This method sets a vector overlay (for example a detected outline) that is drawn on top of
+     * every frame. The path is given in frame pixel coordinates and is mapped to the surface with
+     * the same scale as the frame. The path and paint must not be modified after this call; pass
+     * new instances when the overlay changes, so that unchanged overlays cost a single drawPath.
+     * Can be called from any thread.
+     * @param path - the overlay in frame coordinates, or null to remove the overlay
+     * @param paint - the paint to draw the path with
+     */
+    public void setFrameOverlay(Path path, Paint paint) {
+        mFrameOverlay = path == null ? null : new FrameOverlay(path, paint);
+    }
+
+    /**
+     * @return the number of frames handed to the listener by the analysis executor
+     */
+    public long getAnalyzedFrameCount() {
+        synchronized (mAnalysisLock) {
+            return mAnalyzedFrameCount;
+        }
+    }
+
+    /**
+     * @return the number of frames that were replaced by a newer one before the listener got to them
+     */
+    public long getDroppedFrameCount() {
+        synchronized (mAnalysisLock) {
+            return mDroppedFrameCount;
+        }
+    }
+
     /**
      * This method sets the maximum size that camera frame is allowed to be. When selecting
      * size - the biggest size which less or equal the size set will be selected.
@@ -390,11 +470,159 @@ public abstract class CameraBridgeViewBase extends SurfaceView implements Surfac
 
     private void onExitStartedState() {
         disconnectCamera();
+        waitForAnalysis();
         if (mCacheBitmap != null) {
             mCacheBitmap.recycle();
         }
     }
 
+    /**
+     * Drops the pending frame and blocks until the listener has finished the frame it is
+     * working on, so onCameraViewStopped() is never called while analysis is still running.
+     */
+    private void waitForAnalysis() {
+        synchronized (mAnalysisLock) {
+            mPendingFrame = null;
+            while (mAnalysisScheduled) {
+                try {
+                    mAnalysisLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            for (AnalysisFrame frame : mAnalysisFrames) {
+                frame.release();
+            }
+        }
+    }
+
+    private AnalysisFrame acquireFreeAnalysisFrame() {
+        for (AnalysisFrame candidate : mAnalysisFrames) {
+            if (candidate != mPendingFrame && candidate != mAnalyzingFrame)
+                return candidate;
+        }
+        return null;
+    }
+
+    private void scheduleAnalysis(Mat gray, Mat rgba) {
+        AnalysisFrame target;
+        synchronized (mAnalysisLock) {
+            target = acquireFreeAnalysisFrame();
+            if (mPendingFrame != null) {
+                mDroppedFrameCount++;
+            }
+            mPendingFrame = null;
+        }
+
+        // Copy outside of the lock: the camera buffers are reused as soon as this frame returns
+        target.set(gray, mAnalysisFormat == GRAY ? null : rgba);
+
+        boolean startWorker = false;
+        synchronized (mAnalysisLock) {
+            mPendingFrame = target;
+            if (!mAnalysisScheduled) {
+                mAnalysisScheduled = true;
+                startWorker = true;
+            }
+        }
+        if (startWorker) {
+            try {
+                mAnalysisExecutor.execute(mAnalysisRunnable);
+            } catch (RejectedExecutionException e) {
+                Log.e(TAG, "Analysis executor rejected the frame", e);
+                synchronized (mAnalysisLock) {
+                    mPendingFrame = null;
+                    mAnalysisScheduled = false;
+                    mAnalysisLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private final Runnable mAnalysisRunnable = new Runnable() {
+        @Override
+        public void run() {
+            while (true) {
+                AnalysisFrame frame;
+                synchronized (mAnalysisLock) {
+                    frame = mPendingFrame;
+                    mPendingFrame = null;
+                    mAnalyzingFrame = frame;
+                    if (frame == null) {
+                        mAnalysisScheduled = false;
+                        mAnalysisLock.notifyAll();
+                        return;
+                    }
+                }
+
+                try {
+                    CvCameraViewListener2 listener = mListener;
+                    if (listener != null) {
+                        listener.onCameraFrame(frame);
+                    }
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Frame analysis failed", e);
+                } finally {
+                    synchronized (mAnalysisLock) {
+                        mAnalyzingFrame = null;
+                        mAnalyzedFrameCount++;
+                    }
+                }
+            }
+        }
+    };
+
+    /**
+     * Path and paint drawn over every preview frame until replaced by setFrameOverlay.
+     */
+    private static class FrameOverlay {
+        final Path path;
+        final Paint paint;
+
+        FrameOverlay(Path path, Paint paint) {
+            this.path = path;
+            this.paint = paint;
+        }
+    }
+
+    /**
+     * Frame copy handed to the listener in asynchronous analysis mode. The three instances are
+     * recycled, so their Mats are only reallocated when the frame size changes.
+     */
+    private static class AnalysisFrame implements CvCameraViewFrame {
+        private final Mat mGray = new Mat();
+        private final Mat mRgba = new Mat();
+        private boolean mRgbaValid;
+
+        void set(Mat gray, Mat rgba) {
+            gray.copyTo(mGray);
+            mRgbaValid = rgba != null;
+            if (mRgbaValid) {
+                rgba.copyTo(mRgba);
+            }
+        }
+
+        void release() {
+            mGray.release();
+            mRgba.release();
+        }
+
+        @Override
+        public Mat gray() {
+            return mGray;
+        }
+
+        @Override
+        public Mat rgba() {
+            if (!mRgbaValid) {
+                Imgproc.cvtColor(mGray, mRgba, Imgproc.COLOR_GRAY2RGBA);
+                mRgbaValid = true;
+            }
+            return mRgba;
+        }
+    }
+
     /**
      * This method shall be called by the subclasses when they have valid
      * object and want it to be delivered to external client (via callback) and
@@ -404,7 +632,11 @@ public abstract class CameraBridgeViewBase extends SurfaceView implements Surfac
     protected void deliverAndDrawFrame(CvCameraViewFrame frame) {
         Mat modified;
 
-        if (mListener != null) {
+        if (mListener != null && mAnalysisExecutor != null) {
+            // Draw at sensor rate and let the listener catch up with the newest frame
+            modified = frame.rgba();
+            scheduleAnalysis(frame.gray(), modified);
+        } else if (mListener != null) {
             modified = mListener.onCameraFrame(frame);
         } else {
             modified = frame.rgba();
@@ -425,22 +657,22 @@ public abstract class CameraBridgeViewBase extends SurfaceView implements Surfac
         if (bmpValid && mCacheBitmap != null) {
             Canvas canvas = getHolder().lockCanvas();
             if (canvas != null) {
-                canvas.drawColor(0, android.graphics.PorterDuff.Mode.CLEAR);
                 if (BuildConfig.DEBUG)
                     Log.d(TAG, "mStretch value: " + mScale);
 
-                if (mScale != 0) {
-                    canvas.drawBitmap(mCacheBitmap, new Rect(0,0,mCacheBitmap.getWidth(), mCacheBitmap.getHeight()),
-                         new Rect((int)((canvas.getWidth() - mScale*mCacheBitmap.getWidth()) / 2),
-                         (int)((canvas.getHeight() - mScale*mCacheBitmap.getHeight()) / 2),
-                         (int)((canvas.getWidth() - mScale*mCacheBitmap.getWidth()) / 2 + mScale*mCacheBitmap.getWidth()),
-                         (int)((canvas.getHeight() - mScale*mCacheBitmap.getHeight()) / 2 + mScale*mCacheBitmap.getHeight())), null);
-                } else {
-                     canvas.drawBitmap(mCacheBitmap, new Rect(0,0,mCacheBitmap.getWidth(), mCacheBitmap.getHeight()),
-                         new Rect((canvas.getWidth() - mCacheBitmap.getWidth()) / 2,
-                         (canvas.getHeight() - mCacheBitmap.getHeight()) / 2,
-                         (canvas.getWidth() - mCacheBitmap.getWidth()) / 2 + mCacheBitmap.getWidth(),
-                         (canvas.getHeight() - mCacheBitmap.getHeight()) / 2 + mCacheBitmap.getHeight()), null);
+                updateDrawRects(canvas.getWidth(), canvas.getHeight());
+                // Letterbox bars only exist when the frame doesn't cover the whole surface
+                if (!mDstCoversCanvas)
+                    canvas.drawColor(0, android.graphics.PorterDuff.Mode.CLEAR);
+                canvas.drawBitmap(mCacheBitmap, mSrcRect, mDstRect, null);
+
+                FrameOverlay overlay = mFrameOverlay;
+                if (overlay != null) {
+                    int saveCount = canvas.save();
+                    canvas.translate(mDstRect.left, mDstRect.top);
+                    canvas.scale(mOverlayScaleX, mOverlayScaleY);
+                    canvas.drawPath(overlay.path, overlay.paint);
+                    canvas.restoreToCount(saveCount);
                 }
 
                 if (mFpsMeter != null) {
@@ -452,6 +684,35 @@ public abstract class CameraBridgeViewBase extends SurfaceView implements Surfac
         }
     }
 
+    /**
+     * Recomputes the source and destination rectangles only when the surface or the frame size
+     * changed, so drawing a frame doesn't allocate.
+     */
+    private void updateDrawRects(int canvasWidth, int canvasHeight) {
+        if (canvasWidth == mDrawCanvasWidth && canvasHeight == mDrawCanvasHeight)
+            return;
+        int bitmapWidth = mCacheBitmap.getWidth();
+        int bitmapHeight = mCacheBitmap.getHeight();
+        mSrcRect.set(0, 0, bitmapWidth, bitmapHeight);
+        if (mScale != 0) {
+            mDstRect.set((int)((canvasWidth - mScale*bitmapWidth) / 2),
+                 (int)((canvasHeight - mScale*bitmapHeight) / 2),
+                 (int)((canvasWidth - mScale*bitmapWidth) / 2 + mScale*bitmapWidth),
+                 (int)((canvasHeight - mScale*bitmapHeight) / 2 + mScale*bitmapHeight));
+        } else {
+            mDstRect.set((canvasWidth - bitmapWidth) / 2,
+                 (canvasHeight - bitmapHeight) / 2,
+                 (canvasWidth - bitmapWidth) / 2 + bitmapWidth,
+                 (canvasHeight - bitmapHeight) / 2 + bitmapHeight);
+        }
+        mDstCoversCanvas = mDstRect.left <= 0 && mDstRect.top <= 0
+                && mDstRect.right >= canvasWidth && mDstRect.bottom >= canvasHeight;
+        mOverlayScaleX = (float) mDstRect.width() / bitmapWidth;
+        mOverlayScaleY = (float) mDstRect.height() / bitmapHeight;
+        mDrawCanvasWidth = canvasWidth;
+        mDrawCanvasHeight = canvasHeight;
+    }
+
     /**
      * This method is invoked shall perform concrete operation to initialize the camera.
      * CONTRACT: as a result of this method variables mFrameWidth and mFrameHeight MUST be
@@ -471,6 +732,8 @@ public abstract class CameraBridgeViewBase extends SurfaceView implements Surfac
     protected void AllocateCache()
     {
         mCacheBitmap = Bitmap.createBitmap(mFrameWidth, mFrameHeight, Bitmap.Config.ARGB_8888);
+        mDrawCanvasWidth = -1;
+        mDrawCanvasHeight = -1;
     }
 
     public interface ListItemAccessor {
@@ -12,6 +12,7 @@ import android.hardware.camera2.CameraCaptureSession;
 import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraDevice;
 import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CaptureFailure;
 import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.params.StreamConfigurationMap;
 import android.media.Image;
@@ -45,6 +46,19 @@ public class JavaCamera2View extends CameraBridgeViewBase {
 
     protected ImageReader mImageReader;
     protected int mPreviewFormat = ImageFormat.YUV_420_888;
+    protected ImageReader mStillImageReader;
+    private boolean mStillCaptureEnabled = false;
+    private final Object mStillPictureLock = new Object();
+    private StillPictureCallback mStillPictureCallback;
+
+    /**
+     * Receives pictures requested with {@link #takeStillPicture(StillPictureCallback)}.
+     * Both methods are called on the camera background thread.
+     */
+    public interface StillPictureCallback {
+        public void onStillPicture(byte[] jpeg, int width, int height);
+        public void onStillPictureFailed(String reason);
+    }
 
     protected CameraDevice mCameraDevice;
     protected CameraCaptureSession mCaptureSession;
@@ -54,6 +68,8 @@ public class JavaCamera2View extends CameraBridgeViewBase {
 
     private HandlerThread mBackgroundThread;
     protected Handler mBackgroundHandler;
+    // Only touched on mBackgroundThread, and released once that thread has been joined
+    private final JavaCamera2Frame mFrame = new JavaCamera2Frame();
 
     public JavaCamera2View(Context context, int cameraId) {
         super(context, cameraId);
@@ -183,18 +199,27 @@ public class JavaCamera2View extends CameraBridgeViewBase {
                     assert (planes.length == 3);
                     assert (image.getFormat() == mPreviewFormat);
 
-                    JavaCamera2Frame tempFrame = new JavaCamera2Frame(image);
-                    deliverAndDrawFrame(tempFrame);
-                    tempFrame.release();
-                    image.close();
+                    mFrame.beginFrame(image);
+                    try {
+                        deliverAndDrawFrame(mFrame);
+                    } finally {
+                        mFrame.endFrame();
+                        image.close();
+                    }
                 }
             }, mBackgroundHandler);
             Surface surface = mImageReader.getSurface();
+            List<Surface> outputs = Arrays.asList(surface);
+            if (mStillCaptureEnabled) {
+                createStillImageReader();
+                if (mStillImageReader != null)
+                    outputs = Arrays.asList(surface, mStillImageReader.getSurface());
+            }
 
             mPreviewRequestBuilder = mCameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_PREVIEW);
             mPreviewRequestBuilder.addTarget(surface);
 
-            mCameraDevice.createCaptureSession(Arrays.asList(surface),
+            mCameraDevice.createCaptureSession(outputs,
                 new CameraCaptureSession.StateCallback() {
                     @Override
                     public void onConfigured(CameraCaptureSession cameraCaptureSession) {
@@ -228,6 +253,144 @@ public class JavaCamera2View extends CameraBridgeViewBase {
         }
     }
 
+    /**
+     * Adds a full resolution JPEG output to the capture session so that still pictures can be
+     * taken without stopping the preview. Takes effect the next time the camera is connected.
+     * No output is added if the camera has no JPEG size with the preview aspect ratio; pictures
+     * then fail with a reason.
+     * @param enabled - whether to configure the still picture output
+     */
+    public void setStillCaptureEnabled(boolean enabled) {
+        mStillCaptureEnabled = enabled;
+    }
+
+    /**
+     * Takes a full resolution JPEG picture while the preview keeps running. Only one picture can
+     * be in flight at a time. Requires {@link #setStillCaptureEnabled(boolean)} before the camera
+     * was connected.
+     * @param callback - receives the JPEG bytes or the failure reason
+     * @return false if a picture is already being taken
+     */
+    public boolean takeStillPicture(final StillPictureCallback callback) {
+        synchronized (mStillPictureLock) {
+            if (mStillPictureCallback != null)
+                return false;
+            mStillPictureCallback = callback;
+        }
+        Handler handler = mBackgroundHandler;
+        if (handler == null || !handler.post(new Runnable() {
+                @Override
+                public void run() {
+                    captureStillPicture();
+                }
+            })) {
+            failStillPicture("Camera is not running");
+        }
+        return true;
+    }
+
+    private void captureStillPicture() {
+        if (mCameraDevice == null || mCaptureSession == null || mStillImageReader == null) {
+            failStillPicture(mStillCaptureEnabled && mCameraDevice != null && mCaptureSession != null
+                    ? "No JPEG size matches the preview aspect ratio" : "Still capture is not configured");
+            return;
+        }
+        try {
+            CaptureRequest.Builder builder = mCameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_STILL_CAPTURE);
+            builder.addTarget(mStillImageReader.getSurface());
+            builder.set(CaptureRequest.CONTROL_AF_MODE, CaptureRequest.CONTROL_AF_MODE_CONTINUOUS_PICTURE);
+            // No AE precapture sequence is run, so the flash would fire unmetered; keep auto exposure
+            // without flash and reuse the exposure the preview has converged to
+            builder.set(CaptureRequest.CONTROL_AE_MODE, CaptureRequest.CONTROL_AE_MODE_ON);
+            mCaptureSession.capture(builder.build(), new CameraCaptureSession.CaptureCallback() {
+                @Override
+                public void onCaptureFailed(CameraCaptureSession session, CaptureRequest request, CaptureFailure failure) {
+                    failStillPicture("Still capture failed");
+                }
+            }, mBackgroundHandler);
+        } catch (CameraAccessException | IllegalStateException e) {
+            Log.e(LOGTAG, "captureStillPicture", e);
+            failStillPicture(e.getMessage());
+        }
+    }
+
+    private StillPictureCallback takeStillPictureCallback() {
+        synchronized (mStillPictureLock) {
+            StillPictureCallback callback = mStillPictureCallback;
+            mStillPictureCallback = null;
+            return callback;
+        }
+    }
+
+    private void failStillPicture(String reason) {
+        StillPictureCallback callback = takeStillPictureCallback();
+        if (callback != null)
+            callback.onStillPictureFailed(reason);
+    }
+
+    private void createStillImageReader() {
+        if (null != mStillImageReader) {
+            mStillImageReader.close();
+            mStillImageReader = null;
+        }
+        android.util.Size stillSize = calcStillSize();
+        if (stillSize == null) {
+            Log.w(LOGTAG, "No JPEG size matches the preview aspect ratio, still capture disabled");
+            return;
+        }
+        Log.i(LOGTAG, "Selected still size to " + stillSize.getWidth() + "x" + stillSize.getHeight());
+        mStillImageReader = ImageReader.newInstance(stillSize.getWidth(), stillSize.getHeight(), ImageFormat.JPEG, 1);
+        mStillImageReader.setOnImageAvailableListener(new ImageReader.OnImageAvailableListener() {
+            @Override
+            public void onImageAvailable(ImageReader reader) {
+                Image image = reader.acquireNextImage();
+                if (image == null)
+                    return;
+                try {
+                    StillPictureCallback callback = takeStillPictureCallback();
+                    if (callback != null) {
+                        ByteBuffer buffer = image.getPlanes()[0].getBuffer();
+                        byte[] jpeg = new byte[buffer.remaining()];
+                        buffer.get(jpeg);
+                        callback.onStillPicture(jpeg, image.getWidth(), image.getHeight());
+                    }
+                } finally {
+                    image.close();
+                }
+            }
+        }, mBackgroundHandler);
+    }
+
+    /**
+     * Picks the largest JPEG size with the preview aspect ratio, so that preview coordinates map
+     * to the picture by scaling alone. Returns null if there is none: a different aspect ratio
+     * means a different sensor crop, which scaling cannot map.
+     */
+    private android.util.Size calcStillSize() {
+        CameraManager manager = (CameraManager) getContext().getSystemService(Context.CAMERA_SERVICE);
+        try {
+            CameraCharacteristics characteristics = manager.getCameraCharacteristics(mCameraID);
+            StreamConfigurationMap map = characteristics.get(CameraCharacteristics.SCALER_STREAM_CONFIGURATION_MAP);
+            android.util.Size[] sizes = map.getOutputSizes(ImageFormat.JPEG);
+            if (sizes == null || sizes.length == 0)
+                return null;
+            double previewAspect = (double) mPreviewSize.getWidth() / mPreviewSize.getHeight();
+            android.util.Size matching = null;
+            for (android.util.Size size : sizes) {
+                long area = (long) size.getWidth() * size.getHeight();
+                if (Math.abs((double) size.getWidth() / size.getHeight() - previewAspect) < 0.01 &&
+                        (matching == null || area > (long) matching.getWidth() * matching.getHeight()))
+                    matching = size;
+            }
+            return matching;
+        } catch (CameraAccessException e) {
+            Log.e(LOGTAG, "calcStillSize - Camera Access Exception", e);
+        } catch (IllegalArgumentException e) {
+            Log.e(LOGTAG, "calcStillSize - Illegal Argument Exception", e);
+        }
+        return null;
+    }
+
     @Override
     protected void disconnectCamera() {
         Log.i(LOGTAG, "close camera");
@@ -247,6 +410,12 @@ public class JavaCamera2View extends CameraBridgeViewBase {
                 mImageReader.close();
                 mImageReader = null;
             }
+            if (null != mStillImageReader) {
+                mStillImageReader.close();
+                mStillImageReader = null;
+            }
+            failStillPicture("Camera closed");
+            mFrame.release();
         }
         Log.i(LOGTAG, "camera closed!");
     }
@@ -327,57 +496,66 @@ public class JavaCamera2View extends CameraBridgeViewBase {
         return true;
     }
 
+    /**
+     * One frame object is reused for every Image delivered by the ImageReader. gray() and rgba()
+     * are computed lazily and memoized until the next frame, mRgba and the I420 staging buffers
+     * keep their native memory across frames, and the plane headers are created at most once
+     * per frame and closed (native header deleted) as soon as the frame has been delivered.
+     */
     private class JavaCamera2Frame implements CvCameraViewFrame {
+        private static final int CHROMA_ORDER_UNKNOWN = 0;
+        private static final int CHROMA_ORDER_NV12 = 1;
+        private static final int CHROMA_ORDER_NV21 = 2;
+
         @Override
         public Mat gray() {
-            Image.Plane[] planes = mImage.getPlanes();
-            int w = mImage.getWidth();
-            int h = mImage.getHeight();
-            assert(planes[0].getPixelStride() == 1);
-            ByteBuffer y_plane = planes[0].getBuffer();
-            int y_plane_step = planes[0].getRowStride();
-            mGray = new Mat(h, w, CvType.CV_8UC1, y_plane, y_plane_step);
-            return mGray;
+            if (mYMat == null) {
+                assert(mPlanes[0].getPixelStride() == 1);
+                mYMat = new Mat(mHeight, mWidth, CvType.CV_8UC1, mPlanes[0].getBuffer(), mPlanes[0].getRowStride());
+            }
+            return mYMat;
         }
 
         @Override
         public Mat rgba() {
-            Image.Plane[] planes = mImage.getPlanes();
-            int w = mImage.getWidth();
-            int h = mImage.getHeight();
-            int chromaPixelStride = planes[1].getPixelStride();
+            if (mRgbaValid)
+                return mRgba;
 
+            int w = mWidth;
+            int h = mHeight;
+            int chromaPixelStride = mPlanes[1].getPixelStride();
 
             if (chromaPixelStride == 2) { // Chroma channels are interleaved
-                assert(planes[0].getPixelStride() == 1);
-                assert(planes[2].getPixelStride() == 2);
-                ByteBuffer y_plane = planes[0].getBuffer();
-                int y_plane_step = planes[0].getRowStride();
-                ByteBuffer uv_plane1 = planes[1].getBuffer();
-                int uv_plane1_step = planes[1].getRowStride();
-                ByteBuffer uv_plane2 = planes[2].getBuffer();
-                int uv_plane2_step = planes[2].getRowStride();
-                Mat y_mat = new Mat(h, w, CvType.CV_8UC1, y_plane, y_plane_step);
-                Mat uv_mat1 = new Mat(h / 2, w / 2, CvType.CV_8UC2, uv_plane1, uv_plane1_step);
-                Mat uv_mat2 = new Mat(h / 2, w / 2, CvType.CV_8UC2, uv_plane2, uv_plane2_step);
-                long addr_diff = uv_mat2.dataAddr() - uv_mat1.dataAddr();
-                if (addr_diff > 0) {
-                    assert(addr_diff == 1);
-                    Imgproc.cvtColorTwoPlane(y_mat, uv_mat1, mRgba, Imgproc.COLOR_YUV2RGBA_NV12);
-                } else {
-                    assert(addr_diff == -1);
-                    Imgproc.cvtColorTwoPlane(y_mat, uv_mat2, mRgba, Imgproc.COLOR_YUV2RGBA_NV21);
+                assert(mPlanes[2].getPixelStride() == 2);
+                Mat y_mat = gray();
+                if (mChromaOrder == CHROMA_ORDER_UNKNOWN) {
+                    // The plane order is a property of the camera HAL, so it is probed once
+                    Mat uv_mat1 = new Mat(h / 2, w / 2, CvType.CV_8UC2, mPlanes[1].getBuffer(), mPlanes[1].getRowStride());
+                    Mat uv_mat2 = new Mat(h / 2, w / 2, CvType.CV_8UC2, mPlanes[2].getBuffer(), mPlanes[2].getRowStride());
+                    long addr_diff = uv_mat2.dataAddr() - uv_mat1.dataAddr();
+                    assert(addr_diff == 1 || addr_diff == -1);
+                    mChromaOrder = addr_diff > 0 ? CHROMA_ORDER_NV12 : CHROMA_ORDER_NV21;
+                    uv_mat1.close();
+                    uv_mat2.close();
                 }
-                return mRgba;
+                if (mUvMat == null) {
+                    Image.Plane uvPlane = mChromaOrder == CHROMA_ORDER_NV12 ? mPlanes[1] : mPlanes[2];
+                    mUvMat = new Mat(h / 2, w / 2, CvType.CV_8UC2, uvPlane.getBuffer(), uvPlane.getRowStride());
+                }
+                Imgproc.cvtColorTwoPlane(y_mat, mUvMat, mRgba,
+                        mChromaOrder == CHROMA_ORDER_NV12 ? Imgproc.COLOR_YUV2RGBA_NV12 : Imgproc.COLOR_YUV2RGBA_NV21);
             } else { // Chroma channels are not interleaved
-                byte[] yuv_bytes = new byte[w*(h+h/2)];
-                ByteBuffer y_plane = planes[0].getBuffer();
-                ByteBuffer u_plane = planes[1].getBuffer();
-                ByteBuffer v_plane = planes[2].getBuffer();
+                int yuvSize = w*(h+h/2);
+                if (mYuvBytes == null || mYuvBytes.length != yuvSize)
+                    mYuvBytes = new byte[yuvSize];
+                byte[] yuv_bytes = mYuvBytes;
+                ByteBuffer y_plane = mPlanes[0].getBuffer();
+                ByteBuffer u_plane = mPlanes[1].getBuffer();
+                ByteBuffer v_plane = mPlanes[2].getBuffer();
 
                 int yuv_bytes_offset = 0;
 
-                int y_plane_step = planes[0].getRowStride();
+                int y_plane_step = mPlanes[0].getRowStride();
                 if (y_plane_step == w) {
                     y_plane.get(yuv_bytes, 0, w*h);
                     yuv_bytes_offset = w*h;
@@ -393,7 +571,7 @@ public class JavaCamera2View extends CameraBridgeViewBase {
                     assert(yuv_bytes_offset == w * h);
                 }
 
-                int chromaRowStride = planes[1].getRowStride();
+                int chromaRowStride = mPlanes[1].getRowStride();
                 int chromaRowPadding = chromaRowStride - w/2;
 
                 if (chromaRowPadding == 0){
@@ -420,28 +598,65 @@ public class JavaCamera2View extends CameraBridgeViewBase {
                     }
                 }
 
-                Mat yuv_mat = new Mat(h+h/2, w, CvType.CV_8UC1);
-                yuv_mat.put(0, 0, yuv_bytes);
-                Imgproc.cvtColor(yuv_mat, mRgba, Imgproc.COLOR_YUV2RGBA_I420, 4);
-                return mRgba;
+                // The plane buffers were consumed by the relative gets above
+                y_plane.rewind();
+                u_plane.rewind();
+                v_plane.rewind();
+
+                mYuvMat.create(h+h/2, w, CvType.CV_8UC1);
+                mYuvMat.put(0, 0, yuv_bytes);
+                Imgproc.cvtColor(mYuvMat, mRgba, Imgproc.COLOR_YUV2RGBA_I420, 4);
             }
+            mRgbaValid = true;
+            return mRgba;
         }
 
+        /**
+         * Points this frame at a new image. Must be paired with {@link #endFrame()} before the
+         * image is closed.
+         */
+        void beginFrame(Image image) {
+            mPlanes = image.getPlanes();
+            mWidth = image.getWidth();
+            mHeight = image.getHeight();
+            mRgbaValid = false;
+        }
 
-        public JavaCamera2Frame(Image image) {
-            super();
-            mImage = image;
-            mRgba = new Mat();
-            mGray = new Mat();
+        /**
+         * Deletes the headers that point into the image planes, keeping the converted buffers.
+         * release() would only drop the reference to the plane data and leave the native header
+         * to the cleaner thread.
+         */
+        void endFrame() {
+            if (mYMat != null) {
+                mYMat.close();
+                mYMat = null;
+            }
+            if (mUvMat != null) {
+                mUvMat.close();
+                mUvMat = null;
+            }
+            mPlanes = null;
+            mRgbaValid = false;
         }
 
         public void release() {
+            endFrame();
             mRgba.release();
-            mGray.release();
+            mYuvMat.release();
+            mYuvBytes = null;
+            mChromaOrder = CHROMA_ORDER_UNKNOWN;
         }
 
-        private Image mImage;
-        private Mat mRgba;
-        private Mat mGray;
+        private Image.Plane[] mPlanes;
+        private int mWidth;
+        private int mHeight;
+        private final Mat mRgba = new Mat();
+        private boolean mRgbaValid;
+        private Mat mYMat;
+        private Mat mUvMat;
+        private int mChromaOrder = CHROMA_ORDER_UNKNOWN;
+        private byte[] mYuvBytes;
+        private final Mat mYuvMat = new Mat();
     };
 }
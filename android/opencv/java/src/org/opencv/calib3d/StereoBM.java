@@ -5,6 +5,7 @@ package org.opencv.calib3d;
 
 import org.opencv.calib3d.StereoBM;
 import org.opencv.calib3d.StereoMatcher;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Rect;
 
 // C++: class StereoBM
@@ -228,9 +229,16 @@ public class StereoBM extends StereoMatcher {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            StereoBM.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -288,7 +296,7 @@ public class StereoBM extends StereoMatcher {
     private static native long create_1(int numDisparities);
     private static native long create_2();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -5,6 +5,7 @@ package org.opencv.calib3d;
 
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 
 // C++: class StereoMatcher
 /**
@@ -149,9 +150,16 @@ public class StereoMatcher extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            StereoMatcher.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -195,7 +203,7 @@ public class StereoMatcher extends Algorithm {
     // C++:  void cv::StereoMatcher::setDisp12MaxDiff(int disp12MaxDiff)
     private static native void setDisp12MaxDiff_0(long nativeObj, int disp12MaxDiff);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -5,6 +5,7 @@ package org.opencv.calib3d;
 
 import org.opencv.calib3d.StereoMatcher;
 import org.opencv.calib3d.StereoSGBM;
+import org.opencv.core.NativeCleaner;
 
 // C++: class StereoSGBM
 /**
@@ -600,9 +601,16 @@ public class StereoSGBM extends StereoMatcher {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            StereoSGBM.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -651,7 +659,7 @@ public class StereoSGBM extends StereoMatcher {
     private static native long create_10(int minDisparity);
     private static native long create_11();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
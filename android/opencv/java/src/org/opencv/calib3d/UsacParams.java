@@ -3,14 +3,17 @@
 //
 package org.opencv.calib3d;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class UsacParams
 
-public class UsacParams {
+public class UsacParams implements AutoCloseable {
 
     protected final long nativeObj;
-    protected UsacParams(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected UsacParams(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -23,6 +26,7 @@ public class UsacParams {
 
     public UsacParams() {
         nativeObj = UsacParams_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -224,9 +228,24 @@ public class UsacParams {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            UsacParams.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -300,7 +319,7 @@ public class UsacParams {
     // C++: void UsacParams::threshold
     private static native void set_threshold_0(long nativeObj, double threshold);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -18,10 +18,11 @@ package org.opencv.core;
  * Here is example of SimpleBlobDetector use in your application via Algorithm interface:
  * SNIPPET: snippets/core_various.cpp Algorithm
  */
-public class Algorithm {
+public class Algorithm implements AutoCloseable {
 
     protected final long nativeObj;
-    protected Algorithm(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected Algorithm(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -102,9 +103,24 @@ public class Algorithm {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Algorithm.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -121,7 +137,7 @@ public class Algorithm {
     // C++:  String cv::Algorithm::getDefaultName()
     private static native String getDefaultName_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
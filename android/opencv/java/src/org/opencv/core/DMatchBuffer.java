@@ -0,0 +1,134 @@
+package org.opencv.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable list of descriptor matches stored as one interleaved {@code float[]} with 4 values per
+ * match (queryIdx, trainIdx, imgIdx, distance), the same layout as MatOfDMatch (CV_32FC4).
+ * See {@link PointBuffer}.
+ */
+public final class DMatchBuffer {
+    private static final int CHANNELS = 4;
+
+    private float[] data;
+    private int size;
+
+    public DMatchBuffer() {
+        this(64);
+    }
+
+    public DMatchBuffer(int capacity) {
+        data = new float[Math.max(1, capacity) * CHANNELS];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int queryIdx(int index) {
+        return (int) value(index, 0);
+    }
+
+    public int trainIdx(int index) {
+        return (int) value(index, 1);
+    }
+
+    public int imgIdx(int index) {
+        return (int) value(index, 2);
+    }
+
+    public float distance(int index) {
+        return value(index, 3);
+    }
+
+    public void add(int queryIdx, int trainIdx, int imgIdx, float distance) {
+        ensureCapacity(size + 1);
+        int offset = CHANNELS * size;
+        data[offset] = queryIdx;
+        data[offset + 1] = trainIdx;
+        data[offset + 2] = imgIdx;
+        data[offset + 3] = distance;
+        size++;
+    }
+
+    /**
+     * @return the backing array; only the first {@code 4 * size()} values are meaningful and the
+     * array is replaced when the buffer grows
+     */
+    public float[] data() {
+        return data;
+    }
+
+    /**
+     * Replaces the contents with the matches of a CV_32FC4 Mat (a single row or column).
+     * @return this buffer
+     */
+    public DMatchBuffer read(Mat m) {
+        if (m.empty()) {
+            size = 0;
+            return this;
+        }
+        int count = m.checkVector(CHANNELS, CvType.CV_32F);
+        if (count < 0)
+            throw new IllegalArgumentException("Input Mat should be a CV_32FC4 vector\n" + m);
+        ensureCapacity(count);
+        if (count > 0)
+            m.get(0, 0, data);
+        size = count;
+        return this;
+    }
+
+    /**
+     * Stores the matches in m as a CV_32FC4 column, reallocating it if needed.
+     */
+    public void write(Mat m) {
+        m.create(size, 1, CvType.CV_32FC4);
+        if (size > 0)
+            m.put(0, 0, data);
+    }
+
+    /**
+     * @return a new DMatch for the given index
+     */
+    public DMatch get(int index) {
+        return new DMatch(queryIdx(index), trainIdx(index), imgIdx(index), distance(index));
+    }
+
+    /**
+     * @return a read-only List view that creates DMatch objects on access, for APIs that need one
+     */
+    public List<DMatch> asList() {
+        return new AbstractList<DMatch>() {
+            @Override
+            public DMatch get(int index) {
+                return DMatchBuffer.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private float value(int index, int channel) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        return data[CHANNELS * index + channel];
+    }
+
+    private void ensureCapacity(int count) {
+        if (data.length < count * CHANNELS)
+            data = Arrays.copyOf(data, Math.max(count, 2 * data.length / CHANNELS) * CHANNELS);
+    }
+}
@@ -0,0 +1,150 @@
+package org.opencv.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable list of key points stored as one interleaved {@code float[]} with 7 values per key
+ * point (x, y, size, angle, response, octave, class_id), the same layout as MatOfKeyPoint
+ * (CV_32FC(7)). See {@link PointBuffer}.
+ */
+public final class KeyPointBuffer {
+    private static final int CHANNELS = 7;
+
+    private float[] data;
+    private int size;
+
+    public KeyPointBuffer() {
+        this(64);
+    }
+
+    public KeyPointBuffer(int capacity) {
+        data = new float[Math.max(1, capacity) * CHANNELS];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public float x(int index) {
+        return value(index, 0);
+    }
+
+    public float y(int index) {
+        return value(index, 1);
+    }
+
+    public float size(int index) {
+        return value(index, 2);
+    }
+
+    public float angle(int index) {
+        return value(index, 3);
+    }
+
+    public float response(int index) {
+        return value(index, 4);
+    }
+
+    public int octave(int index) {
+        return (int) value(index, 5);
+    }
+
+    public int classId(int index) {
+        return (int) value(index, 6);
+    }
+
+    public void add(float x, float y, float size, float angle, float response, int octave, int classId) {
+        ensureCapacity(this.size + 1);
+        int offset = CHANNELS * this.size;
+        data[offset] = x;
+        data[offset + 1] = y;
+        data[offset + 2] = size;
+        data[offset + 3] = angle;
+        data[offset + 4] = response;
+        data[offset + 5] = octave;
+        data[offset + 6] = classId;
+        this.size++;
+    }
+
+    /**
+     * @return the backing array; only the first {@code 7 * size()} values are meaningful and the
+     * array is replaced when the buffer grows
+     */
+    public float[] data() {
+        return data;
+    }
+
+    /**
+     * Replaces the contents with the key points of a CV_32FC(7) Mat (a single row or column).
+     * @return this buffer
+     */
+    public KeyPointBuffer read(Mat m) {
+        if (m.empty()) {
+            size = 0;
+            return this;
+        }
+        int count = m.checkVector(CHANNELS, CvType.CV_32F);
+        if (count < 0)
+            throw new IllegalArgumentException("Input Mat should be a CV_32FC(7) vector\n" + m);
+        ensureCapacity(count);
+        if (count > 0)
+            m.get(0, 0, data);
+        size = count;
+        return this;
+    }
+
+    /**
+     * Stores the key points in m as a CV_32FC(7) column, reallocating it if needed.
+     */
+    public void write(Mat m) {
+        m.create(size, 1, CvType.CV_32FC(CHANNELS));
+        if (size > 0)
+            m.put(0, 0, data);
+    }
+
+    /**
+     * @return a new KeyPoint for the given index
+     */
+    public KeyPoint get(int index) {
+        return new KeyPoint(x(index), y(index), size(index), angle(index), response(index), octave(index),
+                classId(index));
+    }
+
+    /**
+     * @return a read-only List view that creates KeyPoint objects on access, for APIs that need one
+     */
+    public List<KeyPoint> asList() {
+        return new AbstractList<KeyPoint>() {
+            @Override
+            public KeyPoint get(int index) {
+                return KeyPointBuffer.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private float value(int index, int channel) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        return data[CHANNELS * index + channel];
+    }
+
+    private void ensureCapacity(int count) {
+        if (data.length < count * CHANNELS)
+            data = Arrays.copyOf(data, Math.max(count, 2 * data.length / CHANNELS) * CHANNELS);
+    }
+}
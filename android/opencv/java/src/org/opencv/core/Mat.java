@@ -4,14 +4,23 @@ import java.nio.ByteBuffer;
 
 // C++: class Mat
 //javadoc: Mat
-public class Mat {
+public class Mat implements AutoCloseable {
 
     public final long nativeObj;
+    private final NativeCleaner.Cleanable cleanable;
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            n_delete(nativeObj);
+        }
+    };
 
     public Mat(long addr) {
         if (addr == 0)
             throw new UnsupportedOperationException("Native object address is NULL");
         nativeObj = addr;
+        cleanable = register();
     }
 
     //
@@ -21,6 +30,7 @@ public class Mat {
     // javadoc: Mat::Mat()
     public Mat() {
         nativeObj = n_Mat();
+        cleanable = register();
     }
 
     //
@@ -30,6 +40,7 @@ public class Mat {
     // javadoc: Mat::Mat(rows, cols, type)
     public Mat(int rows, int cols, int type) {
         nativeObj = n_Mat(rows, cols, type);
+        cleanable = register();
     }
 
     //
@@ -39,6 +50,7 @@ public class Mat {
     // javadoc: Mat::Mat(rows, cols, type, data)
     public Mat(int rows, int cols, int type, ByteBuffer data) {
         nativeObj = n_Mat(rows, cols, type, data);
+        cleanable = register();
     }
 
     //
@@ -48,6 +60,7 @@ public class Mat {
     // javadoc: Mat::Mat(rows, cols, type, data, step)
     public Mat(int rows, int cols, int type, ByteBuffer data, long step) {
         nativeObj = n_Mat(rows, cols, type, data, step);
+        cleanable = register();
     }
 
     //
@@ -57,6 +70,7 @@ public class Mat {
     // javadoc: Mat::Mat(size, type)
     public Mat(Size size, int type) {
         nativeObj = n_Mat(size.width, size.height, type);
+        cleanable = register();
     }
 
     //
@@ -66,6 +80,7 @@ public class Mat {
     // javadoc: Mat::Mat(sizes, type)
     public Mat(int[] sizes, int type) {
         nativeObj = n_Mat(sizes.length, sizes, type);
+        cleanable = register();
     }
 
     //
@@ -75,6 +90,7 @@ public class Mat {
     // javadoc: Mat::Mat(rows, cols, type, s)
     public Mat(int rows, int cols, int type, Scalar s) {
         nativeObj = n_Mat(rows, cols, type, s.val[0], s.val[1], s.val[2], s.val[3]);
+        cleanable = register();
     }
 
     //
@@ -84,6 +100,7 @@ public class Mat {
     // javadoc: Mat::Mat(size, type, s)
     public Mat(Size size, int type, Scalar s) {
         nativeObj = n_Mat(size.width, size.height, type, s.val[0], s.val[1], s.val[2], s.val[3]);
+        cleanable = register();
     }
 
     //
@@ -93,6 +110,7 @@ public class Mat {
     // javadoc: Mat::Mat(sizes, type, s)
     public Mat(int[] sizes, int type, Scalar s) {
         nativeObj = n_Mat(sizes.length, sizes, type, s.val[0], s.val[1], s.val[2], s.val[3]);
+        cleanable = register();
     }
 
     //
@@ -102,11 +120,13 @@ public class Mat {
     // javadoc: Mat::Mat(m, rowRange, colRange)
     public Mat(Mat m, Range rowRange, Range colRange) {
         nativeObj = n_Mat(m.nativeObj, rowRange.start, rowRange.end, colRange.start, colRange.end);
+        cleanable = register();
     }
 
     // javadoc: Mat::Mat(m, rowRange)
     public Mat(Mat m, Range rowRange) {
         nativeObj = n_Mat(m.nativeObj, rowRange.start, rowRange.end);
+        cleanable = register();
     }
 
     //
@@ -116,6 +136,7 @@ public class Mat {
     // javadoc: Mat::Mat(m, ranges)
     public Mat(Mat m, Range[] ranges) {
         nativeObj = n_Mat(m.nativeObj, ranges);
+        cleanable = register();
     }
 
     //
@@ -125,6 +146,7 @@ public class Mat {
     // javadoc: Mat::Mat(m, roi)
     public Mat(Mat m, Rect roi) {
         nativeObj = n_Mat(m.nativeObj, roi.y, roi.y + roi.height, roi.x, roi.x + roi.width);
+        cleanable = register();
     }
 
     //
@@ -751,10 +773,36 @@ public class Mat {
         return new Mat(n_zeros(sizes.length, sizes, type));
     }
 
+    private NativeCleaner.Cleanable register() {
+        MatArena.track(this);
+        NativeCleaner.Cleanable registration = NativeCleaner.register(this, nativeObj, DELETER);
+        if (MatRegistry.isEnabled())
+            MatRegistry.track(registration);
+        return registration;
+    }
+
+    /**
+     * Size of the pixel data referenced by a live native Mat header.
+     */
+    static long bytesOf(long nativeObj) {
+        return n_total(nativeObj) * n_elemSize(nativeObj);
+    }
+
+    /**
+     * Deletes the native Mat header now and releases its reference to the pixel data, instead of
+     * waiting for the garbage collector. Calling it again does nothing. Unlike release(), the Mat
+     * must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        n_delete(nativeObj);
-        super.finalize();
+    public void close() {
+        cleanable.clean();
+    }
+
+    /**
+     * @return true if {@link #close()} has been called (or the native object has been reclaimed)
+     */
+    public boolean isClosed() {
+        return cleanable.isCleaned();
     }
 
     // javadoc:Mat::toString()
@@ -1831,7 +1879,7 @@ public class Mat {
     // C++: static Mat Mat::zeros(int ndims, const int* sizes, int type)
     private static native long n_zeros(int ndims, int[] sizes, int type);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void n_delete(long nativeObj);
 
     private static native int nPutD(long self, int row, int col, int count, double[] data);
@@ -0,0 +1,122 @@
+package org.opencv.core;
+
+import java.util.ArrayList;
+
+/**
+ * Scope that closes every Mat constructed on the current thread while it is open.
+ *
+ * <pre>
+ * try (MatArena arena = MatArena.open()) {
+ *     Mat gray = new Mat();
+ *     Imgproc.cvtColor(rgba, gray, Imgproc.COLOR_RGBA2GRAY);
+ *     ...
+ *     return arena.keep(result);
+ * }
+ * </pre>
+ *
+ * Arenas nest: a Mat passed to {@link #keep(Mat)} moves to the enclosing arena, or is left to the
+ * caller when there is none. Mats created inside the scope must not be stored in long lived fields
+ * unless they are kept. An arena is confined to the thread that opened it.
+ */
+public final class MatArena implements AutoCloseable {
+
+    private static final ThreadLocal<MatArena> CURRENT = new ThreadLocal<MatArena>();
+
+    private final MatArena parent;
+    private final Thread thread;
+    private final ArrayList<Mat> mats = new ArrayList<Mat>();
+    private boolean closed;
+
+    private MatArena(MatArena parent) {
+        this.parent = parent;
+        this.thread = Thread.currentThread();
+    }
+
+    /**
+     * Opens a new arena on the current thread, nested in the current one if any.
+     */
+    public static MatArena open() {
+        MatArena arena = new MatArena(CURRENT.get());
+        CURRENT.set(arena);
+        return arena;
+    }
+
+    /**
+     * Called by the Mat constructors.
+     */
+    static void track(Mat mat) {
+        MatArena arena = CURRENT.get();
+        if (arena != null)
+            arena.mats.add(mat);
+    }
+
+    /**
+     * Removes a Mat that was just constructed on this thread from the current arena, without handing
+     * it to an enclosing one, for internal headers whose lifetime is managed by their owner.
+     */
+    static void untrack(Mat mat) {
+        MatArena arena = CURRENT.get();
+        if (arena == null)
+            return;
+        for (int i = arena.mats.size() - 1; i >= 0; i--) {
+            if (arena.mats.get(i) == mat) {
+                arena.mats.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes mat from this arena so that it outlives the scope.
+     * @return mat, for chaining with return statements
+     */
+    public <T extends Mat> T keep(T mat) {
+        checkOwner();
+        // recently created Mats are the ones usually kept, so search from the end
+        for (int i = mats.size() - 1; i >= 0; i--) {
+            if (mats.get(i) == mat) {
+                mats.remove(i);
+                if (parent != null)
+                    parent.mats.add(mat);
+                break;
+            }
+        }
+        return mat;
+    }
+
+    /**
+     * @return number of Mats that will be closed with this arena
+     */
+    public int size() {
+        return mats.size();
+    }
+
+    /**
+     * Closes the Mats created in this scope in reverse creation order and restores the
+     * enclosing arena. Calling it again does nothing.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        checkOwner();
+        if (CURRENT.get() != this)
+            throw new IllegalStateException("A nested MatArena is still open");
+        closed = true;
+        try {
+            for (int i = mats.size() - 1; i >= 0; i--)
+                mats.get(i).close();
+        } finally {
+            mats.clear();
+            if (parent != null)
+                CURRENT.set(parent);
+            else
+                CURRENT.remove();
+        }
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != thread)
+            throw new IllegalStateException("MatArena used outside of the thread that opened it");
+    }
+}
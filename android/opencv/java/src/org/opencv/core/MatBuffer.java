@@ -0,0 +1,134 @@
+package org.opencv.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Direct buffer views over the pixel data of a continuous Mat, for bulk reads and writes
+ * without copying through Java arrays.
+ *
+ * <pre>
+ * try (MatBuffer buffer = MatBuffer.of(contour)) {
+ *     IntBuffer points = buffer.ints();
+ *     for (int i = 0; i &lt; points.limit(); i += 2)
+ *         ... points.get(i), points.get(i + 1) ...
+ * }
+ * </pre>
+ *
+ * The views alias the Mat's native data. The MatBuffer holds its own header on that data, so the
+ * data stays allocated while the MatBuffer is open even if the caller closes, releases or
+ * reallocates its Mat; in the latter case the views keep showing the old data. Views obtained
+ * earlier cannot be revoked, so they must not be used after the MatBuffer is closed. The header is
+ * not registered with an open {@link MatArena}, so a MatBuffer may outlive the arena it was created in.
+ */
+public final class MatBuffer implements AutoCloseable {
+
+    static {
+        System.loadLibrary("opencv_mat_buffer");
+    }
+
+    // shares the data of the caller's Mat; its reference keeps the data alive until close()
+    private final Mat mat;
+    private final long capacity;
+    private final ByteBuffer buffer;
+
+    private MatBuffer(Mat mat, long capacity) {
+        this.mat = new Mat(mat, Range.all());
+        // the header belongs to this MatBuffer; an open MatArena must not close it under the views
+        MatArena.untrack(this.mat);
+        this.capacity = capacity;
+        this.buffer = n_wrap(this.mat.dataAddr(), capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @param mat - a non empty, continuous Mat of at most 2 GB
+     * @throws IllegalArgumentException if the data cannot be viewed as a single buffer
+     */
+    public static MatBuffer of(Mat mat) {
+        if (mat.isClosed())
+            throw new IllegalStateException("Mat is closed");
+        if (mat.empty())
+            throw new IllegalArgumentException("Mat is empty");
+        if (!mat.isContinuous())
+            throw new IllegalArgumentException("Mat is not continuous; clone() it or use a full Mat instead of a ROI");
+        long capacity = mat.total() * mat.elemSize();
+        if (capacity > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Mat data is larger than a ByteBuffer can address");
+        return new MatBuffer(mat, capacity);
+    }
+
+    /**
+     * @return size of the viewed data in bytes
+     */
+    public int capacity() {
+        return (int) capacity;
+    }
+
+    /**
+     * @return true until the MatBuffer is closed
+     */
+    public boolean isValid() {
+        return !mat.isClosed();
+    }
+
+    /**
+     * @return a new view over all bytes, in native byte order
+     */
+    public ByteBuffer bytes() {
+        checkValid();
+        return buffer.duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @return a new view for CV_16U / CV_16S data
+     */
+    public ShortBuffer shorts() {
+        checkValid();
+        return buffer.asShortBuffer();
+    }
+
+    /**
+     * @return a new view for CV_32S data, e.g. MatOfPoint or MatOfInt
+     */
+    public IntBuffer ints() {
+        checkValid();
+        return buffer.asIntBuffer();
+    }
+
+    /**
+     * @return a new view for CV_32F data, e.g. MatOfPoint2f or histograms
+     */
+    public FloatBuffer floats() {
+        checkValid();
+        return buffer.asFloatBuffer();
+    }
+
+    /**
+     * @return a new view for CV_64F data
+     */
+    public DoubleBuffer doubles() {
+        checkValid();
+        return buffer.asDoubleBuffer();
+    }
+
+    /**
+     * Releases the MatBuffer's reference to the data, which is freed if the caller's Mat no longer
+     * uses it. Views must not be used afterwards. Calling it again does nothing.
+     */
+    @Override
+    public void close() {
+        mat.close();
+    }
+
+    private void checkValid() {
+        if (mat.isClosed())
+            throw new IllegalStateException("MatBuffer is closed");
+    }
+
+    // wraps native memory in a direct ByteBuffer (libopencv_mat_buffer)
+    private static native ByteBuffer n_wrap(long address, long capacity);
+}
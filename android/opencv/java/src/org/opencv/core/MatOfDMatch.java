@@ -80,4 +80,16 @@ public class MatOfDMatch extends Mat {
         DMatch[] adm = toArray();
         return Arrays.asList(adm);
     }
+
+    /**
+     * Copies the matches into buffer with a single bulk copy, reusing its storage.
+     * @return buffer
+     */
+    public DMatchBuffer toBuffer(DMatchBuffer buffer) {
+        return buffer.read(this);
+    }
+
+    public void fromBuffer(DMatchBuffer buffer) {
+        buffer.write(this);
+    }
 }
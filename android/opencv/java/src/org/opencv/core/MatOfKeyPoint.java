@@ -83,4 +83,16 @@ public class MatOfKeyPoint extends Mat {
         KeyPoint[] akp = toArray();
         return Arrays.asList(akp);
     }
+
+    /**
+     * Copies the key points into buffer with a single bulk copy, reusing its storage.
+     * @return buffer
+     */
+    public KeyPointBuffer toBuffer(KeyPointBuffer buffer) {
+        return buffer.read(this);
+    }
+
+    public void fromBuffer(KeyPointBuffer buffer) {
+        buffer.write(this);
+    }
 }
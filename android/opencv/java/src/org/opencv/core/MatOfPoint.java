@@ -75,4 +75,16 @@ public class MatOfPoint extends Mat {
         Point[] ap = toArray();
         return Arrays.asList(ap);
     }
+
+    /**
+     * Copies the points into buffer with a single bulk copy, reusing its storage.
+     * @return buffer
+     */
+    public PointBuffer toBuffer(PointBuffer buffer) {
+        return buffer.read(this);
+    }
+
+    public void fromBuffer(PointBuffer buffer) {
+        buffer.write(this);
+    }
 }
@@ -75,4 +75,16 @@ public class MatOfPoint2f extends Mat {
         Point[] ap = toArray();
         return Arrays.asList(ap);
     }
+
+    /**
+     * Copies the points into buffer with a single bulk copy, reusing its storage.
+     * @return buffer
+     */
+    public Point2fBuffer toBuffer(Point2fBuffer buffer) {
+        return buffer.read(this);
+    }
+
+    public void fromBuffer(Point2fBuffer buffer) {
+        buffer.write(this);
+    }
 }
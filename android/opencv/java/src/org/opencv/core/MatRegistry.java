@@ -0,0 +1,240 @@
+package org.opencv.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in accounting of the native memory held by live Mats.
+ *
+ * Once enabled, every Mat constructed afterwards is attributed to an allocation site: the first
+ * stack frame outside the OpenCV bindings. Capturing a stack trace is the only expensive part, so
+ * only every n-th Mat records its real site and the others are counted under {@link #UNSAMPLED};
+ * totals stay exact either way. Byte counts ({@code total() * elemSize()}) are read when a
+ * {@link #snapshot()} is taken, because OpenCV functions reallocate output Mats natively without
+ * going through Java. A Mat that is reclaimed by the garbage collector while it still references
+ * pixel data, i.e. one that was neither released nor closed, is reported as a leak.
+ */
+public final class MatRegistry {
+
+    /**
+     * Site name used for Mats whose stack trace was not sampled.
+     */
+    public static final String UNSAMPLED = "<unsampled>";
+
+    /**
+     * Receives Mats that were reclaimed by the garbage collector while still holding pixel data.
+     * Called on the cleaner thread.
+     */
+    public interface LeakListener {
+        void onLeak(String site, long bytes, long leaksAtSite);
+    }
+
+    /**
+     * Accounting of one allocation site.
+     */
+    public static final class SiteStats {
+        public final String site;
+        public final int liveMats;
+        public final long liveBytes;
+        // largest liveBytes seen by snapshot() calls; allocations between two snapshots are not seen
+        public final long maxSampledBytes;
+        public final long allocations;
+        public final long leaks;
+        public final long leakedBytes;
+
+        SiteStats(Site site) {
+            this.site = site.name;
+            this.liveMats = site.sampleMats;
+            this.liveBytes = site.sampleBytes;
+            this.maxSampledBytes = site.maxSampledBytes;
+            this.allocations = site.allocations.get();
+            this.leaks = site.leaks.get();
+            this.leakedBytes = site.leakedBytes.get();
+        }
+    }
+
+    /**
+     * Totals at the time {@link #snapshot()} was called. Sites are sorted by live bytes, largest first.
+     */
+    public static final class Snapshot {
+        public final int liveMats;
+        public final long liveBytes;
+        // largest liveBytes seen by snapshot() calls, not a true high-water mark: peaks between two
+        // snapshots are missed
+        public final long maxSampledBytes;
+        public final List<SiteStats> sites;
+
+        Snapshot(int liveMats, long liveBytes, long maxSampledBytes, List<SiteStats> sites) {
+            this.liveMats = liveMats;
+            this.liveBytes = liveBytes;
+            this.maxSampledBytes = maxSampledBytes;
+            this.sites = sites;
+        }
+    }
+
+    static final class Site {
+        final String name;
+        final AtomicLong allocations = new AtomicLong();
+        final AtomicLong leaks = new AtomicLong();
+        final AtomicLong leakedBytes = new AtomicLong();
+        // written while taking a snapshot, guarded by MatRegistry.class
+        int sampleMats;
+        long sampleBytes;
+        long maxSampledBytes;
+
+        Site(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(MatRegistry.class.getName());
+    private static final LeakListener LOG_LEAKS = new LeakListener() {
+        @Override
+        public void onLeak(String site, long bytes, long leaksAtSite) {
+            // log the 1st, 2nd, 4th, 8th, ... leak of each site so a leaking loop does not flood the log
+            if ((leaksAtSite & (leaksAtSite - 1)) == 0)
+                LOGGER.warning("Mat of " + bytes + " bytes allocated at " + site
+                        + " was reclaimed by GC without release() (" + leaksAtSite + " leaks at this site)");
+        }
+    };
+
+    private static final ConcurrentHashMap<String, Site> SITES = new ConcurrentHashMap<String, Site>();
+    private static final Site UNSAMPLED_SITE = site(UNSAMPLED);
+    private static final AtomicLong ALLOCATIONS = new AtomicLong();
+    private static volatile boolean enabled;
+    private static volatile int sampleInterval;
+    private static volatile LeakListener leakListener = LOG_LEAKS;
+    // guarded by MatRegistry.class
+    private static long maxSampledBytes;
+
+    private MatRegistry() {
+    }
+
+    /**
+     * Starts tracking Mats constructed from now on.
+     * @param siteSampleInterval - record the allocation site of every n-th Mat; 1 records all of
+     *                           them, 0 records none
+     */
+    public static void enable(int siteSampleInterval) {
+        sampleInterval = Math.max(0, siteSampleInterval);
+        enabled = true;
+    }
+
+    /**
+     * Stops tracking new Mats. Mats that are already tracked stay accounted until they are freed.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param listener - receives leaks, or null to restore the default which logs them
+     */
+    public static void setLeakListener(LeakListener listener) {
+        leakListener = listener == null ? LOG_LEAKS : listener;
+    }
+
+    /**
+     * Forgets the maxima sampled by previous snapshots, e.g. when a new pipeline stage starts.
+     */
+    public static synchronized void resetMaxSampled() {
+        maxSampledBytes = 0;
+        for (Site site : SITES.values())
+            site.maxSampledBytes = 0;
+    }
+
+    /**
+     * Reads the size of every tracked live Mat and updates the sampled maxima.
+     * Cost grows with the number of live Mats, but the sizes are read outside the registration lock,
+     * so Mats can still be created and freed on other threads meanwhile.
+     */
+    public static synchronized Snapshot snapshot() {
+        for (Site site : SITES.values()) {
+            site.sampleMats = 0;
+            site.sampleBytes = 0;
+        }
+        final int[] liveMats = new int[1];
+        final long[] liveBytes = new long[1];
+        NativeCleaner.visitTracked(new NativeCleaner.TrackedVisitor() {
+            @Override
+            public void visit(NativeCleaner.Cleanable cleanable, long nativeObj) {
+                Site site = cleanable.site;
+                long bytes = Mat.bytesOf(nativeObj);
+                site.sampleMats++;
+                site.sampleBytes += bytes;
+                liveMats[0]++;
+                liveBytes[0] += bytes;
+            }
+        });
+        maxSampledBytes = Math.max(maxSampledBytes, liveBytes[0]);
+        List<SiteStats> sites = new ArrayList<SiteStats>(SITES.size());
+        for (Site site : SITES.values()) {
+            site.maxSampledBytes = Math.max(site.maxSampledBytes, site.sampleBytes);
+            sites.add(new SiteStats(site));
+        }
+        Collections.sort(sites, new Comparator<SiteStats>() {
+            @Override
+            public int compare(SiteStats a, SiteStats b) {
+                return a.liveBytes < b.liveBytes ? 1 : (a.liveBytes > b.liveBytes ? -1 : 0);
+            }
+        });
+        return new Snapshot(liveMats[0], liveBytes[0], maxSampledBytes, Collections.unmodifiableList(sites));
+    }
+
+    /**
+     * Called by the Mat constructors while tracking is enabled.
+     */
+    static void track(NativeCleaner.Cleanable registration) {
+        int interval = sampleInterval;
+        Site site = UNSAMPLED_SITE;
+        if (interval > 0 && ALLOCATIONS.incrementAndGet() % interval == 0)
+            site = site(callerOf(new Throwable().getStackTrace()));
+        site.allocations.incrementAndGet();
+        registration.site = site;
+    }
+
+    /**
+     * Called by NativeCleaner right before a tracked native Mat is deleted.
+     */
+    static void onFree(Site site, long nativeObj, boolean reclaimed) {
+        if (!reclaimed)
+            return;
+        long bytes = Mat.bytesOf(nativeObj);
+        if (bytes == 0)
+            return;
+        site.leakedBytes.addAndGet(bytes);
+        leakListener.onLeak(site.name, bytes, site.leaks.incrementAndGet());
+    }
+
+    private static Site site(String name) {
+        Site site = SITES.get(name);
+        if (site == null) {
+            Site created = new Site(name);
+            site = SITES.putIfAbsent(name, created);
+            if (site == null)
+                site = created;
+        }
+        return site;
+    }
+
+    private static String callerOf(StackTraceElement[] stack) {
+        // skip the bindings (org.opencv.core, imgproc, ...) but keep org.opencv.android, which owns camera frames
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith("org.opencv.") && !className.startsWith("org.opencv.android."))
+                continue;
+            return className + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+        }
+        return UNSAMPLED;
+    }
+}
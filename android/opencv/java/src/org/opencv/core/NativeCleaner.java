@@ -0,0 +1,204 @@
+package org.opencv.core;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+
+/**
+ * Frees the native objects behind Java wrappers (Mat, Algorithm, dnn.Net, ...).
+ *
+ * Every wrapper registers its native address with a deleter when it is constructed. The native
+ * object is deleted either explicitly through {@link Cleanable#clean()} (what the wrappers'
+ * close() calls) or, once the wrapper is only phantom reachable, by a dedicated daemon thread.
+ * Unlike finalize(), a phantom reference is processed after a single GC cycle and does not
+ * resurrect the wrapper, so native memory follows the Java heap much more closely.
+ */
+public final class NativeCleaner {
+
+    /**
+     * Deletes a native object. Implementations must not reference the wrapper instance,
+     * otherwise the wrapper never becomes phantom reachable.
+     */
+    public interface Deleter {
+        void free(long nativeObj);
+    }
+
+    /**
+     * Registration of a single native object. {@link #clean()} deletes it at most once.
+     */
+    public static final class Cleanable extends PhantomReference<Object> {
+        private final long nativeObj;
+        private final Deleter deleter;
+        // doubly linked list of live registrations, guarded by LOCK; keeps the references reachable
+        private Cleanable prev;
+        private Cleanable next;
+        private boolean linked;
+        // while pinned by visitTracked the native object must stay alive; a free() in that window only
+        // unlinks it and the visiting thread deletes it when unpinning. Guarded by LOCK
+        private int pins;
+        private boolean freePending;
+        private boolean freeReclaimed;
+        // allocation site when the object is tracked by MatRegistry, null otherwise
+        volatile MatRegistry.Site site;
+
+        private Cleanable(Object owner, long nativeObj, Deleter deleter) {
+            super(owner, QUEUE);
+            this.nativeObj = nativeObj;
+            this.deleter = deleter;
+        }
+
+        /**
+         * Deletes the native object now. Subsequent calls, including the one made by the
+         * cleaner thread, do nothing.
+         */
+        public void clean() {
+            free(false);
+        }
+
+        private void free(boolean reclaimed) {
+            boolean deferred;
+            synchronized (LOCK) {
+                if (!unlink(this))
+                    return;
+                deferred = pins > 0;
+                if (deferred) {
+                    freePending = true;
+                    freeReclaimed = reclaimed;
+                }
+            }
+            clear();
+            if (!deferred)
+                delete(reclaimed);
+        }
+
+        private void delete(boolean reclaimed) {
+            MatRegistry.Site tracked = site;
+            if (tracked != null)
+                MatRegistry.onFree(tracked, nativeObj, reclaimed);
+            deleter.free(nativeObj);
+        }
+
+        /**
+         * @return true once the native object has been deleted
+         */
+        public boolean isCleaned() {
+            synchronized (LOCK) {
+                return !linked;
+            }
+        }
+    }
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<Object>();
+    private static final Object LOCK = new Object();
+    private static Cleanable first;
+    private static int liveCount;
+
+    static {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (true) {
+                    try {
+                        ((Cleanable) QUEUE.remove()).free(true);
+                    } catch (InterruptedException e) {
+                        // keep draining; the thread lives as long as the process
+                    } catch (Throwable e) {
+                        // a failing deleter must not stop reclamation of the other objects
+                    }
+                }
+            }
+        }, "OpenCV-cleaner");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private NativeCleaner() {
+    }
+
+    /**
+     * Registers the native object owned by a wrapper.
+     * @param owner - the wrapper; the native object is deleted once it becomes phantom reachable
+     * @param nativeObj - native address passed to the deleter
+     * @param deleter - frees nativeObj, must not capture owner
+     * @return the registration used to delete the object explicitly
+     */
+    public static Cleanable register(Object owner, long nativeObj, Deleter deleter) {
+        Cleanable cleanable = new Cleanable(owner, nativeObj, deleter);
+        synchronized (LOCK) {
+            cleanable.next = first;
+            if (first != null)
+                first.prev = cleanable;
+            first = cleanable;
+            cleanable.linked = true;
+            liveCount++;
+        }
+        return cleanable;
+    }
+
+    /**
+     * @return the number of registered native objects that have not been deleted yet
+     */
+    public static int liveCount() {
+        synchronized (LOCK) {
+            return liveCount;
+        }
+    }
+
+    /**
+     * Visits registrations of objects tracked by MatRegistry.
+     */
+    interface TrackedVisitor {
+        void visit(Cleanable cleanable, long nativeObj);
+    }
+
+    /**
+     * Calls visitor for every live registration that has a MatRegistry site. The registration lock
+     * is only held to pin the registrations, not while visiting, so constructors and close() on
+     * other threads are not blocked by the visitor; a pinned native object that is freed meanwhile
+     * is deleted after its visit instead.
+     */
+    static void visitTracked(TrackedVisitor visitor) {
+        Cleanable[] pinned;
+        int count = 0;
+        synchronized (LOCK) {
+            pinned = new Cleanable[liveCount];
+            for (Cleanable cleanable = first; cleanable != null; cleanable = cleanable.next) {
+                if (cleanable.site != null) {
+                    cleanable.pins++;
+                    pinned[count++] = cleanable;
+                }
+            }
+        }
+        try {
+            for (int i = 0; i < count; i++)
+                visitor.visit(pinned[i], pinned[i].nativeObj);
+        } finally {
+            int pending = 0;
+            synchronized (LOCK) {
+                for (int i = 0; i < count; i++) {
+                    Cleanable cleanable = pinned[i];
+                    if (--cleanable.pins == 0 && cleanable.freePending)
+                        pinned[pending++] = cleanable;
+                }
+            }
+            for (int i = 0; i < pending; i++)
+                pinned[i].delete(pinned[i].freeReclaimed);
+        }
+    }
+
+    // guarded by LOCK
+    private static boolean unlink(Cleanable cleanable) {
+        if (!cleanable.linked)
+            return false;
+        if (cleanable.prev != null)
+            cleanable.prev.next = cleanable.next;
+        else
+            first = cleanable.next;
+        if (cleanable.next != null)
+            cleanable.next.prev = cleanable.prev;
+        cleanable.prev = null;
+        cleanable.next = null;
+        cleanable.linked = false;
+        liveCount--;
+        return true;
+    }
+}
@@ -0,0 +1,131 @@
+package org.opencv.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable list of integer points stored as one interleaved {@code int[]} (x0, y0, x1, y1, ...),
+ * the same layout as a CV_32SC2 Mat (MatOfPoint, contours). Converting from and to a Mat is a
+ * single bulk copy and reading a point allocates nothing, so one buffer can be reused across
+ * frames instead of creating a Point object per element.
+ */
+public final class PointBuffer {
+    private static final int CHANNELS = 2;
+
+    private int[] data;
+    private int size;
+
+    public PointBuffer() {
+        this(16);
+    }
+
+    public PointBuffer(int capacity) {
+        data = new int[Math.max(1, capacity) * CHANNELS];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int x(int index) {
+        checkIndex(index);
+        return data[CHANNELS * index];
+    }
+
+    public int y(int index) {
+        checkIndex(index);
+        return data[CHANNELS * index + 1];
+    }
+
+    public void set(int index, int x, int y) {
+        checkIndex(index);
+        data[CHANNELS * index] = x;
+        data[CHANNELS * index + 1] = y;
+    }
+
+    public void add(int x, int y) {
+        ensureCapacity(size + 1);
+        data[CHANNELS * size] = x;
+        data[CHANNELS * size + 1] = y;
+        size++;
+    }
+
+    /**
+     * @return the backing array; only the first {@code 2 * size()} values are meaningful and the
+     * array is replaced when the buffer grows
+     */
+    public int[] data() {
+        return data;
+    }
+
+    /**
+     * Replaces the contents with the points of a CV_32SC2 Mat (a single row or column).
+     * @return this buffer
+     */
+    public PointBuffer read(Mat m) {
+        if (m.empty()) {
+            size = 0;
+            return this;
+        }
+        int count = m.checkVector(CHANNELS, CvType.CV_32S);
+        if (count < 0)
+            throw new IllegalArgumentException("Input Mat should be a CV_32SC2 vector\n" + m);
+        ensureCapacity(count);
+        if (count > 0)
+            m.get(0, 0, data);
+        size = count;
+        return this;
+    }
+
+    /**
+     * Stores the points in m as a CV_32SC2 column, reallocating it if needed.
+     */
+    public void write(Mat m) {
+        m.create(size, 1, CvType.CV_32SC2);
+        if (size > 0)
+            m.put(0, 0, data);
+    }
+
+    /**
+     * @return a new Point for the given index
+     */
+    public Point get(int index) {
+        return new Point(x(index), y(index));
+    }
+
+    /**
+     * @return a read-only List view that creates Point objects on access, for APIs that need one
+     */
+    public List<Point> asList() {
+        return new AbstractList<Point>() {
+            @Override
+            public Point get(int index) {
+                return PointBuffer.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private void ensureCapacity(int count) {
+        if (data.length < count * CHANNELS)
+            data = Arrays.copyOf(data, Math.max(count, 2 * data.length / CHANNELS) * CHANNELS);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+    }
+}
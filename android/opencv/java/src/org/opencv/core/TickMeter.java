@@ -18,10 +18,11 @@ package org.opencv.core;
  *
  * SEE: getTickCount, getTickFrequency
  */
-public class TickMeter {
+public class TickMeter implements AutoCloseable {
 
     protected final long nativeObj;
-    protected TickMeter(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected TickMeter(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -34,6 +35,7 @@ public class TickMeter {
 
     public TickMeter() {
         nativeObj = TickMeter_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -136,9 +138,24 @@ public class TickMeter {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TickMeter.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -179,7 +196,7 @@ public class TickMeter {
     // C++:  void cv::TickMeter::reset()
     private static native void reset_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
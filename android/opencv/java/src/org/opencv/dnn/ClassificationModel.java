@@ -4,6 +4,7 @@
 package org.opencv.dnn;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.dnn.ClassificationModel;
 import org.opencv.dnn.Model;
 import org.opencv.dnn.Net;
@@ -107,9 +108,16 @@ public class ClassificationModel extends Model {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            ClassificationModel.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -130,7 +138,7 @@ public class ClassificationModel extends Model {
     // C++:  void cv::dnn::ClassificationModel::classify(Mat frame, int& classId, float& conf)
     private static native void classify_0(long nativeObj, long frame_nativeObj, double[] classId_out, double[] conf_out);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -9,6 +9,7 @@ import org.opencv.core.Mat;
 import org.opencv.core.MatOfFloat;
 import org.opencv.core.MatOfInt;
 import org.opencv.core.MatOfRect;
+import org.opencv.core.NativeCleaner;
 import org.opencv.dnn.DetectionModel;
 import org.opencv.dnn.Model;
 import org.opencv.dnn.Net;
@@ -147,9 +148,16 @@ public class DetectionModel extends Model {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            DetectionModel.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -172,7 +180,7 @@ public class DetectionModel extends Model {
     private static native void detect_1(long nativeObj, long frame_nativeObj, long classIds_mat_nativeObj, long confidences_mat_nativeObj, long boxes_mat_nativeObj, float confThreshold);
     private static native void detect_2(long nativeObj, long frame_nativeObj, long classIds_mat_nativeObj, long confidences_mat_nativeObj, long boxes_mat_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,8 @@
 //
 package org.opencv.dnn;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class DictValue
@@ -10,10 +12,11 @@ package org.opencv.dnn;
  * This struct stores the scalar value (or array) of one of the following type: double, cv::String or int64.
  * TODO: Maybe int64 is useless because double type exactly stores at least 2^52 integers.
  */
-public class DictValue {
+public class DictValue implements AutoCloseable {
 
     protected final long nativeObj;
-    protected DictValue(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected DictValue(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -26,6 +29,7 @@ public class DictValue {
 
     public DictValue(int i) {
         nativeObj = DictValue_0(i);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -35,6 +39,7 @@ public class DictValue {
 
     public DictValue(double p) {
         nativeObj = DictValue_1(p);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -44,6 +49,7 @@ public class DictValue {
 
     public DictValue(String s) {
         nativeObj = DictValue_2(s);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -113,9 +119,24 @@ public class DictValue {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            DictValue.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -150,7 +171,7 @@ public class DictValue {
     private static native String getStringValue_0(long nativeObj, int idx);
     private static native String getStringValue_1(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfPoint2f;
+import org.opencv.core.NativeCleaner;
 import org.opencv.dnn.Model;
 import org.opencv.dnn.Net;
 import org.opencv.utils.Converters;
@@ -89,9 +90,16 @@ public class KeypointsModel extends Model {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            KeypointsModel.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -107,7 +115,7 @@ public class KeypointsModel extends Model {
     private static native long estimate_0(long nativeObj, long frame_nativeObj, float thresh);
     private static native long estimate_1(long nativeObj, long frame_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
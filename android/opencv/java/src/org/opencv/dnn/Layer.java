@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.utils.Converters;
 
 // C++: class Layer
@@ -132,9 +133,16 @@ public class Layer extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Layer.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -163,7 +171,7 @@ public class Layer extends Algorithm {
     // C++: int Layer::preferableTarget
     private static native int get_preferableTarget_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
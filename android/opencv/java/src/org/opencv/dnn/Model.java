@@ -6,6 +6,7 @@ package org.opencv.dnn;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Scalar;
 import org.opencv.core.Size;
 import org.opencv.dnn.Model;
@@ -20,10 +21,11 @@ import org.opencv.utils.Converters;
  * Model creates net from file with trained weights and config,
  * sets preprocessing input and runs forward pass.
  */
-public class Model {
+public class Model implements AutoCloseable {
 
     protected final long nativeObj;
-    protected Model(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected Model(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -42,6 +44,7 @@ public class Model {
      */
     public Model(String model, String config) {
         nativeObj = Model_0(model, config);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -51,6 +54,7 @@ public class Model {
      */
     public Model(String model) {
         nativeObj = Model_1(model);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -64,6 +68,7 @@ public class Model {
      */
     public Model(Net network) {
         nativeObj = Model_2(network.nativeObj);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -256,9 +261,24 @@ public class Model {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Model.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -305,7 +325,7 @@ public class Model {
     // C++:  Model cv::dnn::Model::setPreferableTarget(dnn_Target targetId)
     private static native long setPreferableTarget_0(long nativeObj, int targetId);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
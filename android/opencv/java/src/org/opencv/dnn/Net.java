@@ -10,6 +10,7 @@ import org.opencv.core.MatOfByte;
 import org.opencv.core.MatOfDouble;
 import org.opencv.core.MatOfFloat;
 import org.opencv.core.MatOfInt;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Scalar;
 import org.opencv.dnn.DictValue;
 import org.opencv.dnn.Layer;
@@ -28,10 +29,11 @@ import org.opencv.utils.Converters;
  *
  * This class supports reference counting of its instances, i. e. copies point to the same instance.
  */
-public class Net {
+public class Net implements AutoCloseable {
 
     protected final long nativeObj;
-    protected Net(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected Net(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -44,6 +46,7 @@ public class Net {
 
     public Net() {
         nativeObj = Net_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -787,9 +790,24 @@ public class Net {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Net.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -928,7 +946,7 @@ public class Net {
     // C++:  int64 cv::dnn::Net::getPerfProfile(vector_double& timings)
     private static native long getPerfProfile_0(long nativeObj, long timings_mat_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -4,6 +4,7 @@
 package org.opencv.dnn;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.dnn.Model;
 import org.opencv.dnn.Net;
 
@@ -73,9 +74,16 @@ public class SegmentationModel extends Model {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            SegmentationModel.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -90,7 +98,7 @@ public class SegmentationModel extends Model {
     // C++:  void cv::dnn::SegmentationModel::segment(Mat frame, Mat& mask)
     private static native void segment_0(long nativeObj, long frame_nativeObj, long mask_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
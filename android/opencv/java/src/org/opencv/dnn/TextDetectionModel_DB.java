@@ -3,6 +3,7 @@
 //
 package org.opencv.dnn;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.dnn.Net;
 import org.opencv.dnn.TextDetectionModel;
 import org.opencv.dnn.TextDetectionModel_DB;
@@ -137,9 +138,16 @@ public class TextDetectionModel_DB extends TextDetectionModel {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TextDetectionModel_DB.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -175,7 +183,7 @@ public class TextDetectionModel_DB extends TextDetectionModel {
     // C++:  int cv::dnn::TextDetectionModel_DB::getMaxCandidates()
     private static native int getMaxCandidates_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
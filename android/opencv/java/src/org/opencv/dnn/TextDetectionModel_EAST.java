@@ -3,6 +3,7 @@
 //
 package org.opencv.dnn;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.dnn.Net;
 import org.opencv.dnn.TextDetectionModel;
 import org.opencv.dnn.TextDetectionModel_EAST;
@@ -113,9 +114,16 @@ public class TextDetectionModel_EAST extends TextDetectionModel {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TextDetectionModel_EAST.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -139,7 +147,7 @@ public class TextDetectionModel_EAST extends TextDetectionModel {
     // C++:  float cv::dnn::TextDetectionModel_EAST::getNMSThreshold()
     private static native float getNMSThreshold_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
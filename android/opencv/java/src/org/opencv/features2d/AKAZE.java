@@ -3,6 +3,7 @@
 //
 package org.opencv.features2d;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.features2d.AKAZE;
 import org.opencv.features2d.Feature2D;
 
@@ -294,9 +295,16 @@ public class AKAZE extends Feature2D {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            AKAZE.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -356,7 +364,7 @@ public class AKAZE extends Feature2D {
     // C++:  String cv::AKAZE::getDefaultName()
     private static native String getDefaultName_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfFloat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.features2d.AffineFeature;
 import org.opencv.features2d.Feature2D;
 import org.opencv.utils.Converters;
@@ -109,9 +110,16 @@ public class AffineFeature extends Feature2D {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            AffineFeature.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -132,7 +140,7 @@ public class AffineFeature extends Feature2D {
     // C++:  String cv::AffineFeature::getDefaultName()
     private static native String getDefaultName_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
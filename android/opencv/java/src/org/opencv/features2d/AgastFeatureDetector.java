@@ -3,6 +3,7 @@
 //
 package org.opencv.features2d;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.features2d.AgastFeatureDetector;
 import org.opencv.features2d.Feature2D;
 
@@ -115,9 +116,16 @@ public class AgastFeatureDetector extends Feature2D {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            AgastFeatureDetector.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -149,7 +157,7 @@ public class AgastFeatureDetector extends Feature2D {
     // C++:  String cv::AgastFeatureDetector::getDefaultName()
     private static native String getDefaultName_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
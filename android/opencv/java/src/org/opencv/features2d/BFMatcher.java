@@ -3,6 +3,7 @@
 //
 package org.opencv.features2d;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.features2d.BFMatcher;
 import org.opencv.features2d.DescriptorMatcher;
 
@@ -112,9 +113,16 @@ public class BFMatcher extends DescriptorMatcher {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BFMatcher.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -129,7 +137,7 @@ public class BFMatcher extends DescriptorMatcher {
     private static native long create_1(int normType);
     private static native long create_2();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfKeyPoint;
+import org.opencv.core.NativeCleaner;
 import org.opencv.utils.Converters;
 
 // C++: class BOWImgDescriptorExtractor
@@ -21,10 +22,11 @@ import org.opencv.utils.Converters;
  * encountered in the image. The i-th bin of the histogram is a frequency of i-th word of the
  * vocabulary in the given image.
  */
-public class BOWImgDescriptorExtractor {
+public class BOWImgDescriptorExtractor implements AutoCloseable {
 
     protected final long nativeObj;
-    protected BOWImgDescriptorExtractor(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected BOWImgDescriptorExtractor(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -110,9 +112,24 @@ public class BOWImgDescriptorExtractor {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BOWImgDescriptorExtractor.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -132,7 +149,7 @@ public class BOWImgDescriptorExtractor {
     // C++:  int cv::BOWImgDescriptorExtractor::descriptorType()
     private static native int descriptorType_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
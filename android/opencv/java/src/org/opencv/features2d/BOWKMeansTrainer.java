@@ -4,6 +4,7 @@
 package org.opencv.features2d;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.TermCriteria;
 import org.opencv.features2d.BOWTrainer;
 
@@ -87,9 +88,16 @@ public class BOWKMeansTrainer extends BOWTrainer {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BOWKMeansTrainer.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -106,7 +114,7 @@ public class BOWKMeansTrainer extends BOWTrainer {
     // C++:  Mat cv::BOWKMeansTrainer::cluster(Mat descriptors)
     private static native long cluster_1(long nativeObj, long descriptors_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
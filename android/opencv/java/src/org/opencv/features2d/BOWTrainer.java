@@ -6,6 +6,7 @@ package org.opencv.features2d;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.utils.Converters;
 
 // C++: class BOWTrainer
@@ -15,10 +16,11 @@ import org.opencv.utils.Converters;
  * For details, see, for example, *Visual Categorization with Bags of Keypoints* by Gabriella Csurka,
  * Christopher R. Dance, Lixin Fan, Jutta Willamowski, Cedric Bray, 2004. :
  */
-public class BOWTrainer {
+public class BOWTrainer implements AutoCloseable {
 
     protected final long nativeObj;
-    protected BOWTrainer(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected BOWTrainer(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -109,9 +111,24 @@ public class BOWTrainer {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BOWTrainer.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -134,7 +151,7 @@ public class BOWTrainer {
     // C++:  Mat cv::BOWTrainer::cluster(Mat descriptors)
     private static native long cluster_1(long nativeObj, long descriptors_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfFloat;
 import org.opencv.core.MatOfInt;
+import org.opencv.core.NativeCleaner;
 import org.opencv.features2d.BRISK;
 import org.opencv.features2d.Feature2D;
 import org.opencv.utils.Converters;
@@ -318,9 +319,16 @@ public class BRISK extends Feature2D {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BRISK.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -364,7 +372,7 @@ public class BRISK extends Feature2D {
     // C++:  float cv::BRISK::getPatternScale()
     private static native float getPatternScale_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfDMatch;
+import org.opencv.core.NativeCleaner;
 import org.opencv.features2d.DescriptorMatcher;
 import org.opencv.utils.Converters;
 
@@ -595,9 +596,16 @@ public class DescriptorMatcher extends Algorithm {
     // Unknown type 'FileStorage' (I), skipping the function
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            DescriptorMatcher.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -664,7 +672,7 @@ public class DescriptorMatcher extends Algorithm {
     // C++: static Ptr_DescriptorMatcher cv::DescriptorMatcher::create(DescriptorMatcher_MatcherType matcherType)
     private static native long create_1(int matcherType);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfKeyPoint;
+import org.opencv.core.NativeCleaner;
 import org.opencv.utils.Converters;
 
 // C++: class Feature2D
@@ -247,9 +248,16 @@ public class Feature2D extends Algorithm {
     // Unknown type 'FileStorage' (I), skipping the function
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Feature2D.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -293,7 +301,7 @@ public class Feature2D extends Algorithm {
     // C++:  String cv::Feature2D::getDefaultName()
     private static native String getDefaultName_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,14 +3,17 @@
 //
 package org.opencv.features2d;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class Params
 
-public class SimpleBlobDetector_Params {
+public class SimpleBlobDetector_Params implements AutoCloseable {
 
     protected final long nativeObj;
-    protected SimpleBlobDetector_Params(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected SimpleBlobDetector_Params(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -23,6 +26,7 @@ public class SimpleBlobDetector_Params {
 
     public SimpleBlobDetector_Params() {
         nativeObj = SimpleBlobDetector_Params_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -382,9 +386,24 @@ public class SimpleBlobDetector_Params {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            SimpleBlobDetector_Params.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -506,7 +525,7 @@ public class SimpleBlobDetector_Params {
     // C++: void SimpleBlobDetector_Params::collectContours
     private static native void set_collectContours_0(long nativeObj, boolean collectContours);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -5,6 +5,7 @@ package org.opencv.imgproc;
 
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 
 // C++: class CLAHE
@@ -89,9 +90,16 @@ public class CLAHE extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            CLAHE.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -114,7 +122,7 @@ public class CLAHE extends Algorithm {
     // C++:  void cv::CLAHE::collectGarbage()
     private static native void collectGarbage_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -5,6 +5,7 @@ package org.opencv.imgproc;
 
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Point;
 
 // C++: class GeneralizedHough
@@ -160,9 +161,16 @@ public class GeneralizedHough extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            GeneralizedHough.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -213,7 +221,7 @@ public class GeneralizedHough extends Algorithm {
     // C++:  int cv::GeneralizedHough::getMaxBufferSize()
     private static native int getMaxBufferSize_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.imgproc;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.imgproc.GeneralizedHough;
 
 // C++: class GeneralizedHoughBallard
@@ -54,9 +55,16 @@ public class GeneralizedHoughBallard extends GeneralizedHough {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            GeneralizedHoughBallard.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -73,7 +81,7 @@ public class GeneralizedHoughBallard extends GeneralizedHough {
     // C++:  int cv::GeneralizedHoughBallard::getVotesThreshold()
     private static native int getVotesThreshold_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
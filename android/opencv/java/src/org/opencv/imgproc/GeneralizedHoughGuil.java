@@ -3,6 +3,7 @@
 //
 package org.opencv.imgproc;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.imgproc.GeneralizedHough;
 
 // C++: class GeneralizedHoughGuil
@@ -234,9 +235,16 @@ public class GeneralizedHoughGuil extends GeneralizedHough {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            GeneralizedHoughGuil.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -313,7 +321,7 @@ public class GeneralizedHoughGuil extends GeneralizedHough {
     // C++:  int cv::GeneralizedHoughGuil::getPosThresh()
     private static native int getPosThresh_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
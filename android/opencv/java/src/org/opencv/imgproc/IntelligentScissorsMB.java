@@ -4,6 +4,7 @@
 package org.opencv.imgproc;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Point;
 import org.opencv.imgproc.IntelligentScissorsMB;
 
@@ -21,10 +22,11 @@ import org.opencv.imgproc.IntelligentScissorsMB;
  * algorithm designed by Eric N. Mortensen and William A. Barrett, Brigham Young University
  * CITE: Mortensen95intelligentscissors
  */
-public class IntelligentScissorsMB {
+public class IntelligentScissorsMB implements AutoCloseable {
 
     protected final long nativeObj;
-    protected IntelligentScissorsMB(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected IntelligentScissorsMB(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -37,6 +39,7 @@ public class IntelligentScissorsMB {
 
     public IntelligentScissorsMB() {
         nativeObj = IntelligentScissorsMB_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -281,9 +284,24 @@ public class IntelligentScissorsMB {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            IntelligentScissorsMB.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -321,7 +339,7 @@ public class IntelligentScissorsMB {
     private static native void getContour_0(long nativeObj, double targetPt_x, double targetPt_y, long contour_nativeObj, boolean backward);
     private static native void getContour_1(long nativeObj, double targetPt_x, double targetPt_y, long contour_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
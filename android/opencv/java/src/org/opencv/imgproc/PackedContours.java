@@ -0,0 +1,147 @@
+package org.opencv.imgproc;
+
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfPoint;
+import org.opencv.core.PointBuffer;
+import org.opencv.core.Range;
+
+/**
+ * Result of findContours with all points packed into one CV_32SC2 column and an offsets index,
+ * so a call costs a fixed number of JNI transitions regardless of the number of contours.
+ * {@link Imgproc#findContours(Mat, java.util.List, Mat, int, int)} instead allocates a native Mat
+ * and a MatOfPoint for every contour.
+ *
+ * <pre>
+ * PackedContours contours = new PackedContours();  // reused across frames
+ * PointBuffer points = new PointBuffer();
+ * contours.find(edges, Imgproc.RETR_LIST, Imgproc.CHAIN_APPROX_SIMPLE);
+ * contours.readPoints(points);
+ * for (int i = 0; i &lt; contours.size(); i++) {
+ *     int start = contours.start(i), end = start + contours.length(i);
+ *     ... points.x(j), points.y(j) for j in [start, end) ...
+ * }
+ * </pre>
+ *
+ * Per-contour Mats are only created on demand by {@link #contour(int)}. The object owns native
+ * memory and is not thread safe; close it when done.
+ */
+public final class PackedContours implements AutoCloseable {
+
+    static {
+        // libopencv_contours links against libopencv_java4, which older Android linkers do not
+        // resolve from the app library directory on their own
+        System.loadLibrary("opencv_java4");
+        System.loadLibrary("opencv_contours");
+    }
+
+    private final MatOfPoint points = new MatOfPoint();
+    private final Mat offsetsMat = new Mat();
+    private final Mat hierarchy = new Mat();
+    private int[] offsets = new int[1];
+    private int size;
+
+    /**
+     * Replaces the contents with the contours of a binary image.
+     * @param image - 8-bit single-channel image (or CV_32SC1 for RETR_CCOMP / RETR_FLOODFILL)
+     * @param mode - contour retrieval mode, see Imgproc.RETR_*
+     * @param method - contour approximation method, see Imgproc.CHAIN_APPROX_*
+     * @return this result
+     */
+    public PackedContours find(Mat image, int mode, int method) {
+        n_find(image.nativeObj, points.nativeObj, offsetsMat.nativeObj, hierarchy.nativeObj, mode, method);
+        int rows = offsetsMat.rows();
+        if (offsets.length < rows)
+            offsets = new int[Math.max(rows, 2 * offsets.length)];
+        offsetsMat.get(0, 0, offsets);
+        size = rows - 1;
+        return this;
+    }
+
+    /**
+     * @return number of contours
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return total number of points of all contours
+     */
+    public int totalPoints() {
+        return offsets[size];
+    }
+
+    /**
+     * @return index of the first point of contour i in {@link #points()}
+     */
+    public int start(int i) {
+        checkIndex(i);
+        return offsets[i];
+    }
+
+    /**
+     * @return number of points of contour i
+     */
+    public int length(int i) {
+        checkIndex(i);
+        return offsets[i + 1] - offsets[i];
+    }
+
+    /**
+     * @return all points as one CV_32SC2 column; reallocated by the next {@link #find}
+     */
+    public MatOfPoint points() {
+        return points;
+    }
+
+    /**
+     * @return the CV_32SC4 hierarchy row of the last {@link #find}, in contour order
+     */
+    public Mat hierarchy() {
+        return hierarchy;
+    }
+
+    /**
+     * Copies all points into buffer with one bulk copy; contour i is
+     * {@code [start(i), start(i) + length(i))}.
+     * @return buffer
+     */
+    public PointBuffer readPoints(PointBuffer buffer) {
+        return buffer.read(points);
+    }
+
+    /**
+     * @return a new MatOfPoint header sharing the points of contour i, valid until the next
+     * {@link #find}; the caller closes it
+     */
+    public MatOfPoint contour(int i) {
+        int start = start(i);
+        Mat rows = new Mat(points, new Range(start, start + length(i)));
+        try {
+            return new MatOfPoint(rows);
+        } finally {
+            rows.close();
+        }
+    }
+
+    /**
+     * Frees the native buffers. Calling it again does nothing.
+     */
+    @Override
+    public void close() {
+        points.close();
+        offsetsMat.close();
+        hierarchy.close();
+        size = 0;
+        offsets[0] = 0;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size)
+            throw new IndexOutOfBoundsException("Index " + i + ", size " + size);
+    }
+
+    // findContours into points / offsets / hierarchy (libopencv_contours)
+    private static native void n_find(long image_nativeObj, long points_nativeObj, long offsets_nativeObj,
+            long hierarchy_nativeObj, int mode, int method);
+}
@@ -10,16 +10,18 @@ import org.opencv.core.MatOfFloat4;
 import org.opencv.core.MatOfFloat6;
 import org.opencv.core.MatOfInt;
 import org.opencv.core.MatOfPoint2f;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Point;
 import org.opencv.core.Rect;
 import org.opencv.utils.Converters;
 
 // C++: class Subdiv2D
 
-public class Subdiv2D {
+public class Subdiv2D implements AutoCloseable {
 
     protected final long nativeObj;
-    protected Subdiv2D(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected Subdiv2D(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -53,6 +55,7 @@ public class Subdiv2D {
      */
     public Subdiv2D() {
         nativeObj = Subdiv2D_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -71,6 +74,7 @@ public class Subdiv2D {
      */
     public Subdiv2D(Rect rect) {
         nativeObj = Subdiv2D_1(rect.x, rect.y, rect.width, rect.height);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -483,9 +487,24 @@ public class Subdiv2D {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Subdiv2D.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -548,7 +567,7 @@ public class Subdiv2D {
     private static native int edgeDst_0(long nativeObj, int edge, double[] dstpt_out);
     private static native int edgeDst_1(long nativeObj, int edge);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
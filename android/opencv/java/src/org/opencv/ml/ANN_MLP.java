@@ -4,6 +4,7 @@
 package org.opencv.ml;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.TermCriteria;
 import org.opencv.ml.ANN_MLP;
 import org.opencv.ml.StatModel;
@@ -519,9 +520,16 @@ public class ANN_MLP extends StatModel {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            ANN_MLP.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -626,7 +634,7 @@ public class ANN_MLP extends StatModel {
     // C++: static Ptr_ANN_MLP cv::ml::ANN_MLP::load(String filepath)
     private static native long load_0(String filepath);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.ml;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.ml.Boost;
 import org.opencv.ml.DTrees;
 
@@ -153,9 +154,16 @@ public class Boost extends DTrees {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Boost.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -185,7 +193,7 @@ public class Boost extends DTrees {
     private static native long load_0(String filepath, String nodeName);
     private static native long load_1(String filepath);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -4,6 +4,7 @@
 package org.opencv.ml;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.ml.DTrees;
 import org.opencv.ml.StatModel;
 
@@ -318,9 +319,16 @@ public class DTrees extends StatModel {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            DTrees.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -386,7 +394,7 @@ public class DTrees extends StatModel {
     private static native long load_0(String filepath, String nodeName);
     private static native long load_1(String filepath);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -6,6 +6,7 @@ package org.opencv.ml;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.TermCriteria;
 import org.opencv.ml.EM;
 import org.opencv.ml.StatModel;
@@ -700,9 +701,16 @@ public class EM extends StatModel {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            EM.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -769,7 +777,7 @@ public class EM extends StatModel {
     private static native long load_0(String filepath, String nodeName);
     private static native long load_1(String filepath);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
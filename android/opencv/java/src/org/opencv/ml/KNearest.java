@@ -4,6 +4,7 @@
 package org.opencv.ml;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.ml.KNearest;
 import org.opencv.ml.StatModel;
 
@@ -261,9 +262,16 @@ public class KNearest extends StatModel {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            KNearest.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -303,7 +311,7 @@ public class KNearest extends StatModel {
     // C++: static Ptr_KNearest cv::ml::KNearest::load(String filepath)
     private static native long load_0(String filepath);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
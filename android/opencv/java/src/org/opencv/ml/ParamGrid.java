@@ -3,6 +3,7 @@
 //
 package org.opencv.ml;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.ml.ParamGrid;
 
 // C++: class ParamGrid
@@ -12,10 +13,11 @@ import org.opencv.ml.ParamGrid;
  * It is used for optimizing statmodel accuracy by varying model parameters, the accuracy estimate
  * being computed by cross-validation.
  */
-public class ParamGrid {
+public class ParamGrid implements AutoCloseable {
 
     protected final long nativeObj;
-    protected ParamGrid(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected ParamGrid(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -123,9 +125,24 @@ public class ParamGrid {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            ParamGrid.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -154,7 +171,7 @@ public class ParamGrid {
     // C++: void ParamGrid::logStep
     private static native void set_logStep_0(long nativeObj, double logStep);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
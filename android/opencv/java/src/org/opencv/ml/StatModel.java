@@ -5,6 +5,7 @@ package org.opencv.ml;
 
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.ml.TrainData;
 
 // C++: class StatModel
@@ -183,9 +184,16 @@ public class StatModel extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            StatModel.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -217,7 +225,7 @@ public class StatModel extends Algorithm {
     private static native float predict_1(long nativeObj, long samples_nativeObj, long results_nativeObj);
     private static native float predict_2(long nativeObj, long samples_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
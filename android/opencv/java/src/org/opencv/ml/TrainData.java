@@ -6,6 +6,7 @@ package org.opencv.ml;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.ml.TrainData;
 import org.opencv.utils.Converters;
 
@@ -20,10 +21,11 @@ import org.opencv.utils.Converters;
  *
  * SEE: REF: ml_intro_data
  */
-public class TrainData {
+public class TrainData implements AutoCloseable {
 
     protected final long nativeObj;
-    protected TrainData(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected TrainData(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -636,9 +638,24 @@ public class TrainData {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrainData.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -769,7 +786,7 @@ public class TrainData {
     private static native long create_3(long samples_nativeObj, int layout, long responses_nativeObj, long varIdx_nativeObj);
     private static native long create_4(long samples_nativeObj, int layout, long responses_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.objdetect.Board;
 import org.opencv.objdetect.DetectorParameters;
 import org.opencv.objdetect.Dictionary;
@@ -334,9 +335,16 @@ public class ArucoDetector extends Algorithm {
     // Unknown type 'FileNode' (I), skipping the function
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            ArucoDetector.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -375,7 +383,7 @@ public class ArucoDetector extends Algorithm {
     // C++:  void cv::aruco::ArucoDetector::setRefineParameters(RefineParameters refineParameters)
     private static native void setRefineParameters_0(long nativeObj, long refineParameters_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
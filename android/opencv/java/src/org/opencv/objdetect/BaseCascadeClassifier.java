@@ -4,6 +4,7 @@
 package org.opencv.objdetect;
 
 import org.opencv.core.Algorithm;
+import org.opencv.core.NativeCleaner;
 
 // C++: class BaseCascadeClassifier
 
@@ -14,14 +15,21 @@ public class BaseCascadeClassifier extends Algorithm {
     // internal usage only
     public static BaseCascadeClassifier __fromPtr__(long addr) { return new BaseCascadeClassifier(addr); }
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BaseCascadeClassifier.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfInt;
 import org.opencv.core.MatOfPoint3f;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Point3;
 import org.opencv.core.Size;
 import org.opencv.objdetect.Dictionary;
@@ -24,10 +25,11 @@ import org.opencv.utils.Converters;
  * - The dictionary which indicates the type of markers of the board
  * - The identifier of all the markers in the board.
  */
-public class Board {
+public class Board implements AutoCloseable {
 
     protected final long nativeObj;
-    protected Board(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected Board(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -48,6 +50,7 @@ public class Board {
     public Board(List<Mat> objPoints, Dictionary dictionary, Mat ids) {
         Mat objPoints_mat = Converters.vector_Mat_to_Mat(objPoints);
         nativeObj = Board_0(objPoints_mat.nativeObj, dictionary.nativeObj, ids.nativeObj);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -182,9 +185,24 @@ public class Board {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Board.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -212,7 +230,7 @@ public class Board {
     private static native void generateImage_1(long nativeObj, double outSize_width, double outSize_height, long img_nativeObj, int marginSize);
     private static native void generateImage_2(long nativeObj, double outSize_width, double outSize_height, long img_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
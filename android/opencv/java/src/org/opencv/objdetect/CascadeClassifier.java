@@ -9,6 +9,7 @@ import org.opencv.core.Mat;
 import org.opencv.core.MatOfDouble;
 import org.opencv.core.MatOfInt;
 import org.opencv.core.MatOfRect;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 import org.opencv.utils.Converters;
 
@@ -16,10 +17,11 @@ import org.opencv.utils.Converters;
 /**
  * Cascade classifier class for object detection.
  */
-public class CascadeClassifier {
+public class CascadeClassifier implements AutoCloseable {
 
     protected final long nativeObj;
-    protected CascadeClassifier(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected CascadeClassifier(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -32,6 +34,7 @@ public class CascadeClassifier {
 
     public CascadeClassifier() {
         nativeObj = CascadeClassifier_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -46,6 +49,7 @@ public class CascadeClassifier {
      */
     public CascadeClassifier(String filename) {
         nativeObj = CascadeClassifier_1(filename);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -583,9 +587,24 @@ public class CascadeClassifier {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            CascadeClassifier.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -639,7 +658,7 @@ public class CascadeClassifier {
     // C++: static bool cv::CascadeClassifier::convert(String oldcascade, String newcascade)
     private static native boolean convert_0(String oldcascade, String newcascade);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
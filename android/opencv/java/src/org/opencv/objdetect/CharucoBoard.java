@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfPoint3f;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 import org.opencv.objdetect.Board;
 import org.opencv.objdetect.Dictionary;
@@ -119,9 +120,16 @@ public class CharucoBoard extends Board {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            CharucoBoard.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -145,7 +153,7 @@ public class CharucoBoard extends Board {
     // C++:  bool cv::aruco::CharucoBoard::checkCharucoCornersCollinear(Mat charucoIds)
     private static native boolean checkCharucoCornersCollinear_0(long nativeObj, long charucoIds_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -4,13 +4,15 @@
 package org.opencv.objdetect;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 
 // C++: class CharucoParameters
 
-public class CharucoParameters {
+public class CharucoParameters implements AutoCloseable {
 
     protected final long nativeObj;
-    protected CharucoParameters(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected CharucoParameters(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -89,9 +91,24 @@ public class CharucoParameters {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            CharucoParameters.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -120,7 +137,7 @@ public class CharucoParameters {
     // C++: void CharucoParameters::tryRefineMarkers
     private static native void set_tryRefineMarkers_0(long nativeObj, boolean tryRefineMarkers);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,16 +3,19 @@
 //
 package org.opencv.objdetect;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class DetectorParameters
 /**
  * struct DetectorParameters is used by ArucoDetector
  */
-public class DetectorParameters {
+public class DetectorParameters implements AutoCloseable {
 
     protected final long nativeObj;
-    protected DetectorParameters(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected DetectorParameters(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -25,6 +28,7 @@ public class DetectorParameters {
 
     public DetectorParameters() {
         nativeObj = DetectorParameters_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -614,9 +618,24 @@ public class DetectorParameters {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            DetectorParameters.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -810,7 +829,7 @@ public class DetectorParameters {
     // C++: void DetectorParameters::minMarkerLengthRatioOriginalImg
     private static native void set_minMarkerLengthRatioOriginalImg_0(long nativeObj, float minMarkerLengthRatioOriginalImg);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
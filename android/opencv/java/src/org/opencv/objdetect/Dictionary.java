@@ -4,6 +4,7 @@
 package org.opencv.objdetect;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 
 // C++: class Dictionary
 /**
@@ -16,10 +17,11 @@ import org.opencv.core.Mat;
  *
  * {@code bytesList.ptr(i)[k*nbytes + j]} is then the j-th byte of i-th marker, in its k-th rotation.
  */
-public class Dictionary {
+public class Dictionary implements AutoCloseable {
 
     protected final long nativeObj;
-    protected Dictionary(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected Dictionary(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -32,6 +34,7 @@ public class Dictionary {
 
     public Dictionary() {
         nativeObj = Dictionary_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -41,10 +44,12 @@ public class Dictionary {
 
     public Dictionary(Mat bytesList, int _markerSize, int maxcorr) {
         nativeObj = Dictionary_1(bytesList.nativeObj, _markerSize, maxcorr);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     public Dictionary(Mat bytesList, int _markerSize) {
         nativeObj = Dictionary_2(bytesList.nativeObj, _markerSize);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -225,9 +230,24 @@ public class Dictionary {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Dictionary.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -274,7 +294,7 @@ public class Dictionary {
     // C++: void Dictionary::maxCorrectionBits
     private static native void set_maxCorrectionBits_0(long nativeObj, int maxCorrectionBits);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -4,6 +4,7 @@
 package org.opencv.objdetect;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 import org.opencv.objdetect.FaceDetectorYN;
 
@@ -13,10 +14,11 @@ import org.opencv.objdetect.FaceDetectorYN;
  *
  * model download link: https://github.com/opencv/opencv_zoo/tree/master/models/face_detection_yunet
  */
-public class FaceDetectorYN {
+public class FaceDetectorYN implements AutoCloseable {
 
     protected final long nativeObj;
-    protected FaceDetectorYN(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected FaceDetectorYN(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -223,9 +225,24 @@ public class FaceDetectorYN {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            FaceDetectorYN.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -265,7 +282,7 @@ public class FaceDetectorYN {
     private static native long create_4(String model, String config, double input_size_width, double input_size_height, float score_threshold);
     private static native long create_5(String model, String config, double input_size_width, double input_size_height);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
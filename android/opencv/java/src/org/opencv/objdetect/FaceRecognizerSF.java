@@ -4,6 +4,7 @@
 package org.opencv.objdetect;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.objdetect.FaceRecognizerSF;
 
 // C++: class FaceRecognizerSF
@@ -12,10 +13,11 @@ import org.opencv.objdetect.FaceRecognizerSF;
  *
  * model download link: https://github.com/opencv/opencv_zoo/tree/master/models/face_recognition_sface
  */
-public class FaceRecognizerSF {
+public class FaceRecognizerSF implements AutoCloseable {
 
     protected final long nativeObj;
-    protected FaceRecognizerSF(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected FaceRecognizerSF(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -121,9 +123,24 @@ public class FaceRecognizerSF {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            FaceRecognizerSF.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -143,7 +160,7 @@ public class FaceRecognizerSF {
     private static native long create_1(String model, String config, int backend_id);
     private static native long create_2(String model, String config);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
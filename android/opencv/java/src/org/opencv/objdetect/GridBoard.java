@@ -4,6 +4,7 @@
 package org.opencv.objdetect;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 import org.opencv.objdetect.Board;
 import org.opencv.objdetect.Dictionary;
@@ -79,9 +80,16 @@ public class GridBoard extends Board {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            GridBoard.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -99,7 +107,7 @@ public class GridBoard extends Board {
     // C++:  float cv::aruco::GridBoard::getMarkerSeparation()
     private static native float getMarkerSeparation_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -10,6 +10,7 @@ import org.opencv.core.MatOfDouble;
 import org.opencv.core.MatOfFloat;
 import org.opencv.core.MatOfPoint;
 import org.opencv.core.MatOfRect;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 import org.opencv.utils.Converters;
 
@@ -31,10 +32,11 @@ import org.opencv.utils.Converters;
  *
  * http://www.learnopencv.com/handwritten-digits-classification-an-opencv-c-python-tutorial
  */
-public class HOGDescriptor {
+public class HOGDescriptor implements AutoCloseable {
 
     protected final long nativeObj;
-    protected HOGDescriptor(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected HOGDescriptor(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -68,6 +70,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor() {
         nativeObj = HOGDescriptor_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -92,6 +95,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins, int _derivAperture, double _winSigma, int _histogramNormType, double _L2HysThreshold, boolean _gammaCorrection, int _nlevels, boolean _signedGradient) {
         nativeObj = HOGDescriptor_1(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins, _derivAperture, _winSigma, _histogramNormType, _L2HysThreshold, _gammaCorrection, _nlevels, _signedGradient);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -110,6 +114,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins, int _derivAperture, double _winSigma, int _histogramNormType, double _L2HysThreshold, boolean _gammaCorrection, int _nlevels) {
         nativeObj = HOGDescriptor_2(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins, _derivAperture, _winSigma, _histogramNormType, _L2HysThreshold, _gammaCorrection, _nlevels);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -127,6 +132,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins, int _derivAperture, double _winSigma, int _histogramNormType, double _L2HysThreshold, boolean _gammaCorrection) {
         nativeObj = HOGDescriptor_3(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins, _derivAperture, _winSigma, _histogramNormType, _L2HysThreshold, _gammaCorrection);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -143,6 +149,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins, int _derivAperture, double _winSigma, int _histogramNormType, double _L2HysThreshold) {
         nativeObj = HOGDescriptor_4(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins, _derivAperture, _winSigma, _histogramNormType, _L2HysThreshold);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -158,6 +165,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins, int _derivAperture, double _winSigma, int _histogramNormType) {
         nativeObj = HOGDescriptor_5(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins, _derivAperture, _winSigma, _histogramNormType);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -172,6 +180,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins, int _derivAperture, double _winSigma) {
         nativeObj = HOGDescriptor_6(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins, _derivAperture, _winSigma);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -185,6 +194,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins, int _derivAperture) {
         nativeObj = HOGDescriptor_7(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins, _derivAperture);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -197,6 +207,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(Size _winSize, Size _blockSize, Size _blockStride, Size _cellSize, int _nbins) {
         nativeObj = HOGDescriptor_8(_winSize.width, _winSize.height, _blockSize.width, _blockSize.height, _blockStride.width, _blockStride.height, _cellSize.width, _cellSize.height, _nbins);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -212,6 +223,7 @@ public class HOGDescriptor {
      */
     public HOGDescriptor(String filename) {
         nativeObj = HOGDescriptor_9(filename);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -770,9 +782,24 @@ public class HOGDescriptor {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            HOGDescriptor.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -885,7 +912,7 @@ public class HOGDescriptor {
     // C++: bool HOGDescriptor::signedGradient
     private static native boolean get_signedGradient_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
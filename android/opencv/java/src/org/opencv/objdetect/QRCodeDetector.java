@@ -6,14 +6,16 @@ package org.opencv.objdetect;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.utils.Converters;
 
 // C++: class QRCodeDetector
 
-public class QRCodeDetector {
+public class QRCodeDetector implements AutoCloseable {
 
     protected final long nativeObj;
-    protected QRCodeDetector(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected QRCodeDetector(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -26,6 +28,7 @@ public class QRCodeDetector {
 
     public QRCodeDetector() {
         nativeObj = QRCodeDetector_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -312,9 +315,24 @@ public class QRCodeDetector {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            QRCodeDetector.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -364,7 +382,7 @@ public class QRCodeDetector {
     private static native boolean detectAndDecodeMulti_1(long nativeObj, long img_nativeObj, List<String> decoded_info, long points_nativeObj);
     private static native boolean detectAndDecodeMulti_2(long nativeObj, long img_nativeObj, List<String> decoded_info);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -6,6 +6,7 @@ package org.opencv.objdetect;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.objdetect.QRCodeEncoder;
 import org.opencv.objdetect.QRCodeEncoder_Params;
 import org.opencv.utils.Converters;
@@ -18,10 +19,11 @@ import org.opencv.utils.Converters;
  *     groupThreshold Minimum possible number of rectangles minus 1. The threshold is used in a group of rectangles to retain it.
  *     eps Relative difference between sides of the rectangles to merge them into a group.
  */
-public class QRCodeEncoder {
+public class QRCodeEncoder implements AutoCloseable {
 
     protected final long nativeObj;
-    protected QRCodeEncoder(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected QRCodeEncoder(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -105,9 +107,24 @@ public class QRCodeEncoder {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            QRCodeEncoder.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -122,7 +139,7 @@ public class QRCodeEncoder {
     // C++:  void cv::QRCodeEncoder::encodeStructuredAppend(String encoded_info, vector_Mat& qrcodes)
     private static native void encodeStructuredAppend_0(long nativeObj, String encoded_info, long qrcodes_mat_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
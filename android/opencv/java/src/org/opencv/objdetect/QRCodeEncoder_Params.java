@@ -3,6 +3,8 @@
 //
 package org.opencv.objdetect;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class Params
@@ -14,10 +16,11 @@ package org.opencv.objdetect;
  *      mode The optional encoding mode - Numeric, Alphanumeric, Byte, Kanji, ECI or Structured Append.
  *      structure_number The optional number of QR codes to generate in Structured Append mode.
  */
-public class QRCodeEncoder_Params {
+public class QRCodeEncoder_Params implements AutoCloseable {
 
     protected final long nativeObj;
-    protected QRCodeEncoder_Params(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected QRCodeEncoder_Params(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -30,6 +33,7 @@ public class QRCodeEncoder_Params {
 
     public QRCodeEncoder_Params() {
         nativeObj = QRCodeEncoder_Params_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -97,9 +101,24 @@ public class QRCodeEncoder_Params {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            QRCodeEncoder_Params.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -119,7 +138,7 @@ public class QRCodeEncoder_Params {
     // C++: void QRCodeEncoder_Params::structure_number
     private static native void set_structure_number_0(long nativeObj, int structure_number);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,16 +3,19 @@
 //
 package org.opencv.objdetect;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class RefineParameters
 /**
  * struct RefineParameters is used by ArucoDetector
  */
-public class RefineParameters {
+public class RefineParameters implements AutoCloseable {
 
     protected final long nativeObj;
-    protected RefineParameters(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected RefineParameters(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -25,18 +28,22 @@ public class RefineParameters {
 
     public RefineParameters(float minRepDistance, float errorCorrectionRate, boolean checkAllOrders) {
         nativeObj = RefineParameters_0(minRepDistance, errorCorrectionRate, checkAllOrders);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     public RefineParameters(float minRepDistance, float errorCorrectionRate) {
         nativeObj = RefineParameters_1(minRepDistance, errorCorrectionRate);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     public RefineParameters(float minRepDistance) {
         nativeObj = RefineParameters_2(minRepDistance);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     public RefineParameters() {
         nativeObj = RefineParameters_3();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -108,9 +115,24 @@ public class RefineParameters {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            RefineParameters.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -139,7 +161,7 @@ public class RefineParameters {
     // C++: void RefineParameters::checkAllOrders
     private static native void set_checkAllOrders_0(long nativeObj, boolean checkAllOrders);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -6,6 +6,7 @@ package org.opencv.photo;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Point;
 import org.opencv.photo.AlignExposures;
 import org.opencv.utils.Converters;
@@ -159,9 +160,16 @@ public class AlignMTB extends AlignExposures {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            AlignMTB.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -199,7 +207,7 @@ public class AlignMTB extends AlignExposures {
     // C++:  void cv::AlignMTB::setCut(bool value)
     private static native void setCut_0(long nativeObj, boolean value);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.photo;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.photo.CalibrateCRF;
 
 // C++: class CalibrateDebevec
@@ -74,9 +75,16 @@ public class CalibrateDebevec extends CalibrateCRF {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            CalibrateDebevec.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -99,7 +107,7 @@ public class CalibrateDebevec extends CalibrateCRF {
     // C++:  void cv::CalibrateDebevec::setRandom(bool random)
     private static native void setRandom_0(long nativeObj, boolean random);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
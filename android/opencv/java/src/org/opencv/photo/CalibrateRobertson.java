@@ -4,6 +4,7 @@
 package org.opencv.photo;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.photo.CalibrateCRF;
 
 // C++: class CalibrateRobertson
@@ -65,9 +66,16 @@ public class CalibrateRobertson extends CalibrateCRF {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            CalibrateRobertson.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -87,7 +95,7 @@ public class CalibrateRobertson extends CalibrateCRF {
     // C++:  Mat cv::CalibrateRobertson::getRadiance()
     private static native long getRadiance_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -6,6 +6,7 @@ package org.opencv.photo;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.photo.MergeExposures;
 import org.opencv.utils.Converters;
 
@@ -43,9 +44,16 @@ public class MergeDebevec extends MergeExposures {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            MergeDebevec.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -56,7 +64,7 @@ public class MergeDebevec extends MergeExposures {
     // C++:  void cv::MergeDebevec::process(vector_Mat src, Mat& dst, Mat times)
     private static native void process_1(long nativeObj, long src_mat_nativeObj, long dst_nativeObj, long times_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
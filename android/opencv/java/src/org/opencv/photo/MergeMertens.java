@@ -6,6 +6,7 @@ package org.opencv.photo;
 import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.photo.MergeExposures;
 import org.opencv.utils.Converters;
 
@@ -109,9 +110,16 @@ public class MergeMertens extends MergeExposures {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            MergeMertens.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -140,7 +148,7 @@ public class MergeMertens extends MergeExposures {
     // C++:  void cv::MergeMertens::setExposureWeight(float exposure_weight)
     private static native void setExposureWeight_0(long nativeObj, float exposure_weight);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
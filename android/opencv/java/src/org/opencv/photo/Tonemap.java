@@ -5,6 +5,7 @@ package org.opencv.photo;
 
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 
 // C++: class Tonemap
 /**
@@ -50,9 +51,16 @@ public class Tonemap extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Tonemap.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -66,7 +74,7 @@ public class Tonemap extends Algorithm {
     // C++:  void cv::Tonemap::setGamma(float gamma)
     private static native void setGamma_0(long nativeObj, float gamma);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.photo;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.photo.Tonemap;
 
 // C++: class TonemapDrago
@@ -60,9 +61,16 @@ public class TonemapDrago extends Tonemap {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TonemapDrago.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -79,7 +87,7 @@ public class TonemapDrago extends Tonemap {
     // C++:  void cv::TonemapDrago::setBias(float bias)
     private static native void setBias_0(long nativeObj, float bias);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
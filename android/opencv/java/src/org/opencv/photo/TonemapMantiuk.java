@@ -3,6 +3,7 @@
 //
 package org.opencv.photo;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.photo.Tonemap;
 
 // C++: class TonemapMantiuk
@@ -56,9 +57,16 @@ public class TonemapMantiuk extends Tonemap {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TonemapMantiuk.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -75,7 +83,7 @@ public class TonemapMantiuk extends Tonemap {
     // C++:  void cv::TonemapMantiuk::setSaturation(float saturation)
     private static native void setSaturation_0(long nativeObj, float saturation);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.photo;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.photo.Tonemap;
 
 // C++: class TonemapReinhard
@@ -75,9 +76,16 @@ public class TonemapReinhard extends Tonemap {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TonemapReinhard.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -100,7 +108,7 @@ public class TonemapReinhard extends Tonemap {
     // C++:  void cv::TonemapReinhard::setColorAdaptation(float color_adapt)
     private static native void setColorAdaptation_0(long nativeObj, float color_adapt);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
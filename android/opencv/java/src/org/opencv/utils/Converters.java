@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.opencv.core.CvType;
+import org.opencv.core.DMatchBuffer;
+import org.opencv.core.KeyPointBuffer;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfByte;
 import org.opencv.core.MatOfDMatch;
@@ -12,7 +14,9 @@ import org.opencv.core.MatOfPoint;
 import org.opencv.core.MatOfPoint2f;
 import org.opencv.core.MatOfPoint3f;
 import org.opencv.core.Point;
+import org.opencv.core.Point2fBuffer;
 import org.opencv.core.Point3;
+import org.opencv.core.PointBuffer;
 import org.opencv.core.Size;
 import org.opencv.core.Rect;
 import org.opencv.core.RotatedRect;
@@ -474,6 +478,69 @@ public class Converters {
         }
     }
 
+    // Primitive buffers: one bulk copy per Mat and no object per element
+
+    public static PointBuffer Mat_to_PointBuffer(Mat m, PointBuffer pts) {
+        if (pts == null)
+            throw new IllegalArgumentException("Output buffer can't be null");
+        return pts.read(m);
+    }
+
+    // vector_KeyPoint, vector_DMatch and vector_Point2d are marshalled as CV_64F: convert natively, then copy once
+    public static Point2fBuffer Mat_to_Point2fBuffer(Mat m, Point2fBuffer pts) {
+        if (pts == null)
+            throw new IllegalArgumentException("Output buffer can't be null");
+        if (m.empty() || m.depth() != CvType.CV_64F)
+            return pts.read(m);
+        Mat converted = new Mat();
+        try {
+            m.convertTo(converted, CvType.CV_32F);
+            return pts.read(converted);
+        } finally {
+            converted.close();
+        }
+    }
+
+    public static Mat PointBuffer_to_Mat(PointBuffer pts) {
+        Mat res = new Mat();
+        pts.write(res);
+        return res;
+    }
+
+    public static Mat Point2fBuffer_to_Mat(Point2fBuffer pts) {
+        Mat res = new Mat();
+        pts.write(res);
+        return res;
+    }
+
+    public static KeyPointBuffer Mat_to_KeyPointBuffer(Mat m, KeyPointBuffer kps) {
+        if (kps == null)
+            throw new IllegalArgumentException("Output buffer can't be null");
+        if (m.empty() || m.depth() != CvType.CV_64F)
+            return kps.read(m);
+        Mat converted = new Mat();
+        try {
+            m.convertTo(converted, CvType.CV_32F);
+            return kps.read(converted);
+        } finally {
+            converted.close();
+        }
+    }
+
+    public static DMatchBuffer Mat_to_DMatchBuffer(Mat m, DMatchBuffer matches) {
+        if (matches == null)
+            throw new IllegalArgumentException("Output buffer can't be null");
+        if (m.empty() || m.depth() != CvType.CV_64F)
+            return matches.read(m);
+        Mat converted = new Mat();
+        try {
+            m.convertTo(converted, CvType.CV_32F);
+            return matches.read(converted);
+        } finally {
+            converted.close();
+        }
+    }
+
     public static Mat vector_KeyPoint_to_Mat(List<KeyPoint> kps) {
         Mat res;
         int count = (kps != null) ? kps.size() : 0;
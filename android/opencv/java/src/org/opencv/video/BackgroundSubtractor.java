@@ -5,6 +5,7 @@ package org.opencv.video;
 
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 
 // C++: class BackgroundSubtractor
 /**
@@ -69,9 +70,16 @@ public class BackgroundSubtractor extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BackgroundSubtractor.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -83,7 +91,7 @@ public class BackgroundSubtractor extends Algorithm {
     // C++:  void cv::BackgroundSubtractor::getBackgroundImage(Mat& backgroundImage)
     private static native void getBackgroundImage_0(long nativeObj, long backgroundImage_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
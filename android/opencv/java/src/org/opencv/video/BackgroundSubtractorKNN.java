@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.BackgroundSubtractor;
 
 // C++: class BackgroundSubtractorKNN
@@ -220,9 +221,16 @@ public class BackgroundSubtractorKNN extends BackgroundSubtractor {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BackgroundSubtractorKNN.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -269,7 +277,7 @@ public class BackgroundSubtractorKNN extends BackgroundSubtractor {
     // C++:  void cv::BackgroundSubtractorKNN::setShadowThreshold(double threshold)
     private static native void setShadowThreshold_0(long nativeObj, double threshold);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -4,6 +4,7 @@
 package org.opencv.video;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.BackgroundSubtractor;
 
 // C++: class BackgroundSubtractorMOG2
@@ -378,9 +379,16 @@ public class BackgroundSubtractorMOG2 extends BackgroundSubtractor {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            BackgroundSubtractorMOG2.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -461,7 +469,7 @@ public class BackgroundSubtractorMOG2 extends BackgroundSubtractor {
     private static native void apply_0(long nativeObj, long image_nativeObj, long fgmask_nativeObj, double learningRate);
     private static native void apply_1(long nativeObj, long image_nativeObj, long fgmask_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.DISOpticalFlow;
 import org.opencv.video.DenseOpticalFlow;
 
@@ -340,9 +341,16 @@ public class DISOpticalFlow extends DenseOpticalFlow {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            DISOpticalFlow.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -411,7 +419,7 @@ public class DISOpticalFlow extends DenseOpticalFlow {
     private static native long create_0(int preset);
     private static native long create_1();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -5,6 +5,7 @@ package org.opencv.video;
 
 import org.opencv.core.Algorithm;
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 
 // C++: class DenseOpticalFlow
 /**
@@ -45,9 +46,16 @@ public class DenseOpticalFlow extends Algorithm {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            DenseOpticalFlow.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -58,7 +66,7 @@ public class DenseOpticalFlow extends Algorithm {
     // C++:  void cv::DenseOpticalFlow::collectGarbage()
     private static native void collectGarbage_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.DenseOpticalFlow;
 import org.opencv.video.FarnebackOpticalFlow;
 
@@ -202,9 +203,16 @@ public class FarnebackOpticalFlow extends DenseOpticalFlow {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            FarnebackOpticalFlow.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -268,7 +276,7 @@ public class FarnebackOpticalFlow extends DenseOpticalFlow {
     private static native long create_7(int numLevels);
     private static native long create_8();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -4,6 +4,7 @@
 package org.opencv.video;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 
 // C++: class KalmanFilter
 /**
@@ -15,10 +16,11 @@ import org.opencv.core.Mat;
  * <b>Note:</b> In C API when CvKalman\* kalmanFilter structure is not needed anymore, it should be released
  * with cvReleaseKalman(&amp;kalmanFilter)
  */
-public class KalmanFilter {
+public class KalmanFilter implements AutoCloseable {
 
     protected final long nativeObj;
-    protected KalmanFilter(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected KalmanFilter(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -31,6 +33,7 @@ public class KalmanFilter {
 
     public KalmanFilter() {
         nativeObj = KalmanFilter_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -47,6 +50,7 @@ public class KalmanFilter {
      */
     public KalmanFilter(int dynamParams, int measureParams, int controlParams, int type) {
         nativeObj = KalmanFilter_1(dynamParams, measureParams, controlParams, type);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -57,6 +61,7 @@ public class KalmanFilter {
      */
     public KalmanFilter(int dynamParams, int measureParams, int controlParams) {
         nativeObj = KalmanFilter_2(dynamParams, measureParams, controlParams);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -66,6 +71,7 @@ public class KalmanFilter {
      */
     public KalmanFilter(int dynamParams, int measureParams) {
         nativeObj = KalmanFilter_3(dynamParams, measureParams);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -288,9 +294,24 @@ public class KalmanFilter {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            KalmanFilter.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -370,7 +391,7 @@ public class KalmanFilter {
     // C++: void KalmanFilter::errorCovPost
     private static native void set_errorCovPost_0(long nativeObj, long errorCovPost_nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
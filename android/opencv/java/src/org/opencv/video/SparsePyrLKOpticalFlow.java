@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 import org.opencv.core.TermCriteria;
 import org.opencv.video.SparseOpticalFlow;
@@ -143,9 +144,16 @@ public class SparsePyrLKOpticalFlow extends SparseOpticalFlow {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            SparsePyrLKOpticalFlow.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -188,7 +196,7 @@ public class SparsePyrLKOpticalFlow extends SparseOpticalFlow {
     private static native long create_4(double winSize_width, double winSize_height);
     private static native long create_5();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
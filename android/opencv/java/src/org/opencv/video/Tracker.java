@@ -4,16 +4,18 @@
 package org.opencv.video;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Rect;
 
 // C++: class Tracker
 /**
  * Base abstract class for the long-term tracker
  */
-public class Tracker {
+public class Tracker implements AutoCloseable {
 
     protected final long nativeObj;
-    protected Tracker(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected Tracker(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -56,9 +58,24 @@ public class Tracker {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            Tracker.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -69,7 +86,7 @@ public class Tracker {
     // C++:  bool cv::Tracker::update(Mat image, Rect& boundingBox)
     private static native boolean update_0(long nativeObj, long image_nativeObj, double[] boundingBox_out);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.Tracker;
 import org.opencv.video.TrackerDaSiamRPN;
 import org.opencv.video.TrackerDaSiamRPN_Params;
@@ -51,9 +52,16 @@ public class TrackerDaSiamRPN extends Tracker {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerDaSiamRPN.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -65,7 +73,7 @@ public class TrackerDaSiamRPN extends Tracker {
     // C++:  float cv::TrackerDaSiamRPN::getTrackingScore()
     private static native float getTrackingScore_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,14 +3,17 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class Params
 
-public class TrackerDaSiamRPN_Params {
+public class TrackerDaSiamRPN_Params implements AutoCloseable {
 
     protected final long nativeObj;
-    protected TrackerDaSiamRPN_Params(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected TrackerDaSiamRPN_Params(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -23,6 +26,7 @@ public class TrackerDaSiamRPN_Params {
 
     public TrackerDaSiamRPN_Params() {
         nativeObj = TrackerDaSiamRPN_Params_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -116,9 +120,24 @@ public class TrackerDaSiamRPN_Params {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerDaSiamRPN_Params.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -156,7 +175,7 @@ public class TrackerDaSiamRPN_Params {
     // C++: void TrackerDaSiamRPN_Params::target
     private static native void set_target_0(long nativeObj, int target);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.Tracker;
 import org.opencv.video.TrackerGOTURN;
 import org.opencv.video.TrackerGOTURN_Params;
@@ -53,9 +54,16 @@ public class TrackerGOTURN extends Tracker {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerGOTURN.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -64,7 +72,7 @@ public class TrackerGOTURN extends Tracker {
     private static native long create_0(long parameters_nativeObj);
     private static native long create_1();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -3,14 +3,17 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class Params
 
-public class TrackerGOTURN_Params {
+public class TrackerGOTURN_Params implements AutoCloseable {
 
     protected final long nativeObj;
-    protected TrackerGOTURN_Params(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected TrackerGOTURN_Params(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -23,6 +26,7 @@ public class TrackerGOTURN_Params {
 
     public TrackerGOTURN_Params() {
         nativeObj = TrackerGOTURN_Params_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -62,9 +66,24 @@ public class TrackerGOTURN_Params {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerGOTURN_Params.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -84,7 +103,7 @@ public class TrackerGOTURN_Params {
     // C++: void TrackerGOTURN_Params::modelBin
     private static native void set_modelBin_0(long nativeObj, String modelBin);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
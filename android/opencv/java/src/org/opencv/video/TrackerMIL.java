@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.Tracker;
 import org.opencv.video.TrackerMIL;
 import org.opencv.video.TrackerMIL_Params;
@@ -46,9 +47,16 @@ public class TrackerMIL extends Tracker {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerMIL.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -57,7 +65,7 @@ public class TrackerMIL extends Tracker {
     private static native long create_0(long parameters_nativeObj);
     private static native long create_1();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
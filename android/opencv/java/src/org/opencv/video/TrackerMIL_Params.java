@@ -3,14 +3,17 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class Params
 
-public class TrackerMIL_Params {
+public class TrackerMIL_Params implements AutoCloseable {
 
     protected final long nativeObj;
-    protected TrackerMIL_Params(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected TrackerMIL_Params(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -23,6 +26,7 @@ public class TrackerMIL_Params {
 
     public TrackerMIL_Params() {
         nativeObj = TrackerMIL_Params_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -152,9 +156,24 @@ public class TrackerMIL_Params {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerMIL_Params.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -204,7 +223,7 @@ public class TrackerMIL_Params {
     // C++: void TrackerMIL_Params::featureSetNumFeatures
     private static native void set_featureSetNumFeatures_0(long nativeObj, int featureSetNumFeatures);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
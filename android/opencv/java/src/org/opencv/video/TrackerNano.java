@@ -3,6 +3,7 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.Tracker;
 import org.opencv.video.TrackerNano;
 import org.opencv.video.TrackerNano_Params;
@@ -59,9 +60,16 @@ public class TrackerNano extends Tracker {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerNano.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -73,7 +81,7 @@ public class TrackerNano extends Tracker {
     // C++:  float cv::TrackerNano::getTrackingScore()
     private static native float getTrackingScore_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
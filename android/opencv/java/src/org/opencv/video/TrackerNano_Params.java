@@ -3,14 +3,17 @@
 //
 package org.opencv.video;
 
+import org.opencv.core.NativeCleaner;
+
 
 
 // C++: class Params
 
-public class TrackerNano_Params {
+public class TrackerNano_Params implements AutoCloseable {
 
     protected final long nativeObj;
-    protected TrackerNano_Params(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected TrackerNano_Params(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -23,6 +26,7 @@ public class TrackerNano_Params {
 
     public TrackerNano_Params() {
         nativeObj = TrackerNano_Params_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -98,9 +102,24 @@ public class TrackerNano_Params {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            TrackerNano_Params.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -132,7 +151,7 @@ public class TrackerNano_Params {
     // C++: void TrackerNano_Params::target
     private static native void set_target_0(long nativeObj, int target);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
@@ -4,6 +4,7 @@
 package org.opencv.video;
 
 import org.opencv.core.Mat;
+import org.opencv.core.NativeCleaner;
 import org.opencv.video.DenseOpticalFlow;
 import org.opencv.video.VariationalRefinement;
 
@@ -219,9 +220,16 @@ public class VariationalRefinement extends DenseOpticalFlow {
     }
 
 
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            VariationalRefinement.delete(nativeObj);
+        }
+    };
+
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -268,7 +276,7 @@ public class VariationalRefinement extends DenseOpticalFlow {
     // C++: static Ptr_VariationalRefinement cv::VariationalRefinement::create()
     private static native long create_0();
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
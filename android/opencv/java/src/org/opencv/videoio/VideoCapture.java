@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfInt;
+import org.opencv.core.NativeCleaner;
 import org.opencv.utils.Converters;
 
 // C++: class VideoCapture
@@ -39,10 +40,11 @@ import org.opencv.utils.Converters;
  *   </li>
  * </ul>
  */
-public class VideoCapture {
+public class VideoCapture implements AutoCloseable {
 
     protected final long nativeObj;
-    protected VideoCapture(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected VideoCapture(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -61,6 +63,7 @@ public class VideoCapture {
      */
     public VideoCapture() {
         nativeObj = VideoCapture_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -96,6 +99,7 @@ public class VideoCapture {
      */
     public VideoCapture(String filename, int apiPreference) {
         nativeObj = VideoCapture_1(filename, apiPreference);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -125,6 +129,7 @@ public class VideoCapture {
      */
     public VideoCapture(String filename) {
         nativeObj = VideoCapture_2(filename);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -145,6 +150,7 @@ public class VideoCapture {
     public VideoCapture(String filename, int apiPreference, MatOfInt params) {
         Mat params_mat = params;
         nativeObj = VideoCapture_3(filename, apiPreference, params_mat.nativeObj);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -165,6 +171,7 @@ public class VideoCapture {
      */
     public VideoCapture(int index, int apiPreference) {
         nativeObj = VideoCapture_4(index, apiPreference);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -179,6 +186,7 @@ public class VideoCapture {
      */
     public VideoCapture(int index) {
         nativeObj = VideoCapture_5(index);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -199,6 +207,7 @@ public class VideoCapture {
     public VideoCapture(int index, int apiPreference, MatOfInt params) {
         Mat params_mat = params;
         nativeObj = VideoCapture_6(index, apiPreference, params_mat.nativeObj);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -547,9 +556,24 @@ public class VideoCapture {
     // Unknown type 'vector_VideoCapture' (I), skipping the function
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            VideoCapture.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -616,7 +640,7 @@ public class VideoCapture {
     // C++:  bool cv::VideoCapture::getExceptionMode()
     private static native boolean getExceptionMode_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
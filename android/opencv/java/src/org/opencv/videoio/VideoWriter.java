@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.opencv.core.Mat;
 import org.opencv.core.MatOfInt;
+import org.opencv.core.NativeCleaner;
 import org.opencv.core.Size;
 import org.opencv.utils.Converters;
 
@@ -16,10 +17,11 @@ import org.opencv.utils.Converters;
  *
  * The class provides C++ API for writing video files or image sequences.
  */
-public class VideoWriter {
+public class VideoWriter implements AutoCloseable {
 
     protected final long nativeObj;
-    protected VideoWriter(long addr) { nativeObj = addr; }
+    private final NativeCleaner.Cleanable cleanable;
+    protected VideoWriter(long addr) { nativeObj = addr; cleanable = NativeCleaner.register(this, nativeObj, deleter()); }
 
     public long getNativeObjAddr() { return nativeObj; }
 
@@ -48,6 +50,7 @@ public class VideoWriter {
      */
     public VideoWriter() {
         nativeObj = VideoWriter_0();
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -91,6 +94,7 @@ public class VideoWriter {
      */
     public VideoWriter(String filename, int fourcc, double fps, Size frameSize, boolean isColor) {
         nativeObj = VideoWriter_1(filename, fourcc, fps, frameSize.width, frameSize.height, isColor);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -128,6 +132,7 @@ public class VideoWriter {
      */
     public VideoWriter(String filename, int fourcc, double fps, Size frameSize) {
         nativeObj = VideoWriter_2(filename, fourcc, fps, frameSize.width, frameSize.height);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -148,6 +153,7 @@ public class VideoWriter {
      */
     public VideoWriter(String filename, int apiPreference, int fourcc, double fps, Size frameSize, boolean isColor) {
         nativeObj = VideoWriter_3(filename, apiPreference, fourcc, fps, frameSize.width, frameSize.height, isColor);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
     /**
@@ -162,6 +168,7 @@ public class VideoWriter {
      */
     public VideoWriter(String filename, int apiPreference, int fourcc, double fps, Size frameSize) {
         nativeObj = VideoWriter_4(filename, apiPreference, fourcc, fps, frameSize.width, frameSize.height);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -182,6 +189,7 @@ public class VideoWriter {
     public VideoWriter(String filename, int fourcc, double fps, Size frameSize, MatOfInt params) {
         Mat params_mat = params;
         nativeObj = VideoWriter_5(filename, fourcc, fps, frameSize.width, frameSize.height, params_mat.nativeObj);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -192,6 +200,7 @@ public class VideoWriter {
     public VideoWriter(String filename, int apiPreference, int fourcc, double fps, Size frameSize, MatOfInt params) {
         Mat params_mat = params;
         nativeObj = VideoWriter_6(filename, apiPreference, fourcc, fps, frameSize.width, frameSize.height, params_mat.nativeObj);
+        cleanable = NativeCleaner.register(this, nativeObj, deleter());
     }
 
 
@@ -385,9 +394,24 @@ public class VideoWriter {
     }
 
 
+    /**
+     * Deletes the native object now instead of waiting for the garbage collector.
+     * Calling it again does nothing; the object must not be used after it has been closed.
+     */
     @Override
-    protected void finalize() throws Throwable {
-        delete(nativeObj);
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static final NativeCleaner.Deleter DELETER = new NativeCleaner.Deleter() {
+        @Override
+        public void free(long nativeObj) {
+            VideoWriter.delete(nativeObj);
+        }
+    };
+
+    protected NativeCleaner.Deleter deleter() {
+        return DELETER;
     }
 
 
@@ -444,7 +468,7 @@ public class VideoWriter {
     // C++:  String cv::VideoWriter::getBackendName()
     private static native String getBackendName_0(long nativeObj);
 
-    // native support for java finalize()
+    // native support for NativeCleaner
     private static native void delete(long nativeObj);
 
 }
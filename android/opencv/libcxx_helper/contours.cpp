@@ -0,0 +1,54 @@
+#include <jni.h>
+
+#include <algorithm>
+#include <vector>
+
+#include <opencv2/core.hpp>
+#include <opencv2/imgproc.hpp>
+
+// Runs cv::findContours and copies every contour into one CV_32SC2 column plus a CV_32S offsets
+// column (contour i spans rows offsets[i] .. offsets[i + 1]), instead of allocating a native Mat
+// per contour for the Java List<MatOfPoint>.
+extern "C" JNIEXPORT void JNICALL
+Java_org_opencv_imgproc_PackedContours_n_1find(JNIEnv* env, jclass, jlong image_nativeObj,
+                                               jlong points_nativeObj, jlong offsets_nativeObj,
+                                               jlong hierarchy_nativeObj, jint mode, jint method)
+{
+    try {
+        cv::Mat& image = *reinterpret_cast<cv::Mat*>(image_nativeObj);
+        cv::Mat& points = *reinterpret_cast<cv::Mat*>(points_nativeObj);
+        cv::Mat& offsets = *reinterpret_cast<cv::Mat*>(offsets_nativeObj);
+        cv::Mat& hierarchy = *reinterpret_cast<cv::Mat*>(hierarchy_nativeObj);
+
+        std::vector<std::vector<cv::Point> > contours;
+        cv::findContours(image, contours, hierarchy, mode, method);
+
+        size_t total = 0;
+        for (size_t i = 0; i < contours.size(); i++)
+            total += contours[i].size();
+        offsets.create((int) contours.size() + 1, 1, CV_32S);
+        int* offset = offsets.ptr<int>();
+        if (total == 0) {
+            points.release();
+            std::fill(offset, offset + contours.size() + 1, 0);
+            return;
+        }
+        points.create((int) total, 1, CV_32SC2);
+        cv::Point* dst = points.ptr<cv::Point>();
+        int position = 0;
+        for (size_t i = 0; i < contours.size(); i++) {
+            offset[i] = position;
+            dst = std::copy(contours[i].begin(), contours[i].end(), dst);
+            position += (int) contours[i].size();
+        }
+        offset[contours.size()] = position;
+    } catch (const cv::Exception& e) {
+        jclass cvException = env->FindClass("org/opencv/core/CvException");
+        if (cvException != NULL)
+            env->ThrowNew(cvException, e.what());
+    } catch (...) {
+        jclass exception = env->FindClass("java/lang/Exception");
+        if (exception != NULL)
+            env->ThrowNew(exception, "Unknown exception in PackedContours.find()");
+    }
+}
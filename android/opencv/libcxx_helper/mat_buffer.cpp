@@ -0,0 +1,9 @@
+#include <jni.h>
+
+// Wraps native memory owned by a cv::Mat in a direct ByteBuffer without copying.
+// Lifetime is enforced on the Java side by org.opencv.core.MatBuffer.
+extern "C" JNIEXPORT jobject JNICALL
+Java_org_opencv_core_MatBuffer_n_1wrap(JNIEnv* env, jclass, jlong address, jlong capacity)
+{
+    return env->NewDirectByteBuffer(reinterpret_cast<void*>(address), capacity);
+}
@@ -0,0 +1,3 @@
+import {requireNativeComponent} from 'react-native';
+
+export default requireNativeComponent('RNOpenCvDocumentCamera');
@@ -37,11 +37,11 @@ export default class CameraScreen extends Component {
     },
   };
 
-  checkForRectangle(imageAsBase64) {
+  checkForRectangle(imageAsBase64, imageUri) {
     return new Promise((resolve, reject) => {
       if (Platform.OS === 'android') {
-        OpenCV.checkForRectangle(
-          imageAsBase64,
+        OpenCV.checkForRectangleFromUri(
+          imageUri,
           error => {
             console.log('error');
             // error handling
@@ -62,7 +62,7 @@ export default class CameraScreen extends Component {
     const {content, photoPath} = this.state.photoAsBase64;
 
     console.log('## proceedWithcheckForRectangle');
-    this.checkForRectangle(content)
+    this.checkForRectangle(content, photoPath)
       .then(([origin, cropped]) => {
         console.log('## new_photo');
         this.setState({
@@ -82,7 +82,8 @@ export default class CameraScreen extends Component {
 
   async takePicture() {
     if (this.camera) {
-      const options = {quality: 0.5, base64: true};
+      // Android passes the file uri to the native module, so no base64 is needed
+      const options = {quality: 0.5, base64: Platform.OS !== 'android'};
       const data = await this.camera.takePictureAsync(options);
       this.setState({
         ...this.state,
@@ -115,6 +116,11 @@ export default class CameraScreen extends Component {
     // do something, e.g. navigate
   }
 
+  imageUri(image) {
+    // Android returns cache file uris, other platforms return base64 png
+    return Platform.OS === 'android' ? image : `data:image/png;base64,${image}`;
+  }
+
   render() {
     if (this.state.photoAsBase64.isPhotoPreview) {
       return (
@@ -124,7 +130,7 @@ export default class CameraScreen extends Component {
           <View style={[styles.imagePreview]}>
             <Image
               source={{
-                uri: `data:image/png;base64,${this.state.photoAsBase64.origin}`,
+                uri: this.imageUri(this.state.photoAsBase64.origin),
               }}
               style={{height: '100%', width: '100%', resizeMode: 'contain'}}
             />
@@ -133,7 +139,7 @@ export default class CameraScreen extends Component {
             <View style={[styles.imagePreview]}>
               <Image
                 source={{
-                  uri: `data:image/png;base64,${this.state.photoAsBase64.cropped}`,
+                  uri: this.imageUri(this.state.photoAsBase64.cropped),
                 }}
                 style={{height: '100%', width: '100%', resizeMode: 'contain'}}
               />